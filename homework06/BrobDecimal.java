@@ -0,0 +1,516 @@
+/** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * File name  :  BrobDecimal.java
+ * Purpose    :  Exact decimal fractions of any size, as an unscaled BrobInt and a scale
+ * @author    :  Kevin McInerney
+ * Date       :  2026-10-18
+ * Description:  @see <a href='http://bjohnson.lmu.build/cmsi186web/homework06.html'>Assignment Page</a>
+ * Notes      :  The value is unscaled * 10^-scale, the same as java.math.BigDecimal; add, subtract and
+ *                 multiply are exact, and divide rounds with a java.math.RoundingMode to either a
+ *                 scale or a MathContext precision.  All of the arithmetic is BrobInt arithmetic on
+ *                 the unscaled values, and since BrobInt's limbs are decimal, lining up two scales
+ *                 is a move of whole limbs plus one single-limb pass rather than a multiply
+ * Warnings   :  Unlike BigDecimal, equals() goes by numeric value, so 2.0 equals 2.00; this keeps it
+ *                 consistent with compareTo() the way BrobInt's equals() is
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Revision History
+ * ================
+ *   Ver      Date     Modified by:  Reason for change or modification
+ *  -----  ----------  ------------  ---------------------------------------------------------------------
+ *  1.0.0  2026-10-18  K. McInerney  Initial writing and release
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+public final class BrobDecimal implements Comparable<BrobDecimal> {
+
+   public static final BrobDecimal ZERO = new BrobDecimal( BrobInt.ZERO, 0 );   /// Constant for "zero"
+   public static final BrobDecimal ONE  = new BrobDecimal( BrobInt.ONE,  0 );   /// Constant for "one"
+   public static final BrobDecimal TEN  = new BrobDecimal( BrobInt.TEN,  0 );   /// Constant for "ten"
+
+   private final BrobInt unscaled;   // the digits, with the decimal point taken out
+   private final int     scale;      // how many of those digits are after the point; may be negative
+
+  /// hashCode() fills this in the first time it is asked, the same way BrobInt does
+   private int hash;
+
+  /**
+   *  Constructor takes a string of decimal digits with an optional sign, an optional decimal point
+   *   and an optional exponent, as in "-123.4500" or "1.5e-3"; the scale is the number of digits
+   *   after the point, less the exponent
+   *  @param  value  String value to make into a BrobDecimal
+   *  @throws  IllegalArgumentException if something is hinky
+   */
+   public BrobDecimal( String value ) {
+      if ( value == null || value.length() == 0 ){
+         throw new IllegalArgumentException();
+      }
+      int  end      = value.length();
+      long exponent = 0;
+      int  mark     = Math.max( value.lastIndexOf( 'e' ), value.lastIndexOf( 'E' ) );
+      if ( mark >= 0 ){
+         try {
+            exponent = Integer.parseInt( value.substring( mark + 1 ) );
+         }
+         catch( NumberFormatException e ) {
+            throw new IllegalArgumentException();
+         }
+         end = mark;
+      }
+      int start = (value.charAt( 0 ) == '-' || value.charAt( 0 ) == '+') ? 1 : 0;
+      StringBuilder digits = new StringBuilder( end );
+      digits.append( value, 0, start );
+      int point = -1;
+      for ( int i = start; i < end; i++ ){
+         char c = value.charAt( i );
+         if ( c == '.' && point < 0 ){
+            point = i;
+         } else if ( c >= '0' && c <= '9' ){
+            digits.append( c );
+         } else {
+            throw new IllegalArgumentException();
+         }
+      }
+      if ( digits.length() == start ){
+         throw new IllegalArgumentException();
+      }
+      long newScale = ((point < 0) ? 0 : end - point - 1) - exponent;
+      if ( newScale != (int)newScale ){
+         throw new IllegalArgumentException();
+      }
+      unscaled = new BrobInt( digits.toString() );
+      scale    = (int)newScale;
+   }
+
+  /**
+   *  Constructor that pairs an unscaled value with a scale
+   *  @param  unscaled  the digits
+   *  @param  scale     how many of them are after the decimal point; a negative scale stands for
+   *                     that many zeros after them
+   */
+   public BrobDecimal( BrobInt unscaled, int scale ) {
+      this.unscaled = unscaled;
+      this.scale    = scale;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to make a BrobDecimal from a whole number
+   *  @param  value    the whole number
+   *  @return BrobDecimal  with that value and a scale of zero
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static BrobDecimal valueOf( BrobInt value ) {
+      return new BrobDecimal( value, 0 );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to make a BrobDecimal from a long and a scale, like BigDecimal.valueOf( long, int )
+   *  @param  unscaled  the digits
+   *  @param  scale     how many of them are after the decimal point
+   *  @return BrobDecimal  that is unscaled * 10^-scale
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static BrobDecimal valueOf( long unscaled, int scale ) {
+      return new BrobDecimal( BrobInt.valueOf( unscaled ), scale );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the unscaled value of this BrobDecimal
+   *  @return BrobInt  the digits, with the decimal point taken out
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt getUnscaledValue() {
+      return unscaled;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the scale of this BrobDecimal
+   *  @return int  how many of the unscaled digits are after the decimal point
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int getScale() {
+      return scale;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the sign (+/-) of this BrobDecimal
+   *  @return int  "0" for positive or zero, "1" for negative, as BrobInt.getSign() does
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int getSign() {
+      return unscaled.getSign();
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the precision of this BrobDecimal
+   *  @return int  the number of digits in the unscaled value; zero has one
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int getPrecision() {
+      return unscaled.digitCount();
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to negate this BrobDecimal
+   *  @return BrobDecimal  with the opposite sign and the same scale
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal negate() {
+      return new BrobDecimal( unscaled.negate(), scale );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to add a BrobDecimal passed as argument to this BrobDecimal
+   *  @param  other  BrobDecimal to add to this
+   *  @return BrobDecimal  that is the exact sum, with the larger of the two scales
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal add( BrobDecimal other ) {
+      int common = Math.max( scale, other.scale );
+      return new BrobDecimal( rescale( unscaled, scale, common ).addInt( rescale( other.unscaled, other.scale, common ) ),
+                              common );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to subtract a BrobDecimal passed as argument from this BrobDecimal
+   *  @param  other  BrobDecimal to subtract from this
+   *  @return BrobDecimal  that is the exact difference, with the larger of the two scales
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal subtract( BrobDecimal other ) {
+      int common = Math.max( scale, other.scale );
+      return new BrobDecimal( rescale( unscaled, scale, common ).subtractInt( rescale( other.unscaled, other.scale, common ) ),
+                              common );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply this BrobDecimal by a BrobDecimal passed as argument
+   *  @param  other  BrobDecimal to multiply by this
+   *  @return BrobDecimal  that is the exact product, whose scale is the sum of the two scales
+   *  @throws ArithmeticException if that scale does not fit in an int
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal multiply( BrobDecimal other ) {
+      return new BrobDecimal( unscaled.multiply( other.unscaled ), checkScale( (long)scale + other.scale ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide this BrobDecimal by a BrobDecimal passed as argument, to a given scale
+   *  @param  divisor   BrobDecimal to divide this by
+   *  @param  newScale  scale of the quotient
+   *  @param  mode      how to round the digits past that scale
+   *  @return BrobDecimal  that is the quotient, rounded to newScale
+   *  @throws ArithmeticException if the divisor is zero, or the mode is UNNECESSARY and the quotient
+   *                              does not stop by newScale
+   *  NOTE: this is one BrobInt divRem() of the unscaled values, with whichever of them needs it
+   *        moved up by a power of ten first so the quotient comes out at newScale
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal divide( BrobDecimal divisor, int newScale, RoundingMode mode ) {
+      return new BrobDecimal( divideToScale( divisor, newScale, mode )[0], newScale );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to do the division for both forms of divide()
+   *  @param  divisor   BrobDecimal to divide this by
+   *  @param  newScale  scale of the quotient
+   *  @param  mode      how to round the digits past that scale
+   *  @return BrobInt[] holding the unscaled quotient, rounded, and the remainder before rounding,
+   *                    which is zero only if the quotient was exact
+   *  @throws ArithmeticException if the divisor is zero, or the mode is UNNECESSARY and the quotient
+   *                              does not stop by newScale
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private BrobInt[] divideToScale( BrobDecimal divisor, int newScale, RoundingMode mode ) {
+      if ( divisor.unscaled.equals( BrobInt.ZERO ) ){
+         throw new ArithmeticException( "\n         Sorry, you can't divide by zero." );
+      }
+      long    shift       = (long)newScale - scale + divisor.scale;
+      BrobInt numerator   = unscaled;
+      BrobInt denominator = divisor.unscaled;
+      if ( shift >= 0 ){
+         numerator = numerator.timesPowerOfTen( checkScale( shift ) );
+      } else {
+         denominator = denominator.timesPowerOfTen( checkScale( -shift ) );
+      }
+      BrobInt[] qr = numerator.divRem( denominator );
+      qr[0] = round( qr[0], qr[1], denominator, numerator.getSign() != denominator.getSign(), mode );
+      return qr;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide this BrobDecimal by a BrobDecimal passed as argument, to a number of digits
+   *  @param  divisor  BrobDecimal to divide this by
+   *  @param  mc       the precision and rounding mode; a precision of zero asks for the exact quotient
+   *  @return BrobDecimal  that is the quotient rounded to mc.getPrecision() digits; if it came out
+   *                       exact, trailing zeros are taken off down to the scale of this less the
+   *                       scale of the divisor, as BigDecimal does
+   *  @throws ArithmeticException if the divisor is zero, or the quotient must be exact and has no
+   *                              end, or the mode is UNNECESSARY and the quotient needs rounding
+   *  NOTE: the quotient of an m digit value by an n digit one has m - n or m - n + 1 digits; one
+   *        comparison of the two, lined up, says which, so the division is done once at the right
+   *        scale and rounded once
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal divide( BrobDecimal divisor, MathContext mc ) {
+      if ( divisor.unscaled.equals( BrobInt.ZERO ) ){
+         throw new ArithmeticException( "\n         Sorry, you can't divide by zero." );
+      }
+      int preferred = checkScale( (long)scale - divisor.scale );
+      if ( unscaled.equals( BrobInt.ZERO ) ){
+         return new BrobDecimal( BrobInt.ZERO, preferred );
+      }
+      if ( mc.getPrecision() == 0 ){
+         return divideExact( divisor, preferred );
+      }
+      int     precision = mc.getPrecision();
+      int     aDigits   = unscaled.digitCount();
+      int     bDigits   = divisor.unscaled.digitCount();
+      BrobInt a         = abs( unscaled );
+      BrobInt b         = abs( divisor.unscaled );
+      boolean longer    = (aDigits >= bDigits) ? a.compareTo( b.timesPowerOfTen( aDigits - bDigits ) ) >= 0
+                                               : a.timesPowerOfTen( bDigits - aDigits ).compareTo( b ) >= 0;
+      long    newScale  = (long)precision - aDigits + bDigits - (longer ? 1 : 0) + scale - divisor.scale;
+      BrobInt[]   qr        = divideToScale( divisor, checkScale( newScale ), mc.getRoundingMode() );
+      BrobDecimal quotient  = new BrobDecimal( qr[0], (int)newScale );
+      if ( qr[0].digitCount() > precision ){
+         quotient = new BrobDecimal( qr[0].divRemPowerOfTen( 1 )[0], checkScale( newScale - 1 ) );
+      }
+      return qr[1].equals( BrobInt.ZERO ) ? quotient.stripZerosTo( preferred ) : quotient;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find the exact quotient, for divide() with a precision of zero
+   *  @param  divisor    BrobDecimal to divide this by; not zero
+   *  @param  preferred  the scale of this less the scale of the divisor
+   *  @return BrobDecimal  that is the exact quotient at the smallest scale, no less than preferred,
+   *                       that holds it
+   *  @throws ArithmeticException if the quotient has no end
+   *  NOTE: the quotient ends only if the divisor, in lowest terms, is 2^i * 5^j, and then it needs
+   *        max( i, j ) more digits than the preferred scale
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private BrobDecimal divideExact( BrobDecimal divisor, int preferred ) {
+      BrobInt rest  = abs( divisor.unscaled ).divide( unscaled.gcd( divisor.unscaled ) );
+      int     twos  = 0;
+      int     fives = 0;
+      while ( !rest.testBit( 0 ) ){
+         rest = rest.shiftRight( 1 );
+         twos++;
+      }
+      BrobInt[] qr = rest.divRem( BrobInt.FIVE );
+      while ( qr[1].equals( BrobInt.ZERO ) ){
+         rest = qr[0];
+         fives++;
+         qr = rest.divRem( BrobInt.FIVE );
+      }
+      if ( !rest.equals( BrobInt.ONE ) ){
+         throw new ArithmeticException( "\n         Sorry, the quotient never ends; give a precision or a scale to round it to." );
+      }
+      return divide( divisor, checkScale( (long)preferred + Math.max( twos, fives ) ), RoundingMode.UNNECESSARY );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to change the scale of this BrobDecimal, like BigDecimal.setScale()
+   *  @param  newScale  the scale wanted
+   *  @param  mode      how to round any digits past it
+   *  @return BrobDecimal  with that scale; exact if newScale is not less than the current scale
+   *  @throws ArithmeticException if the mode is UNNECESSARY and digits that are not zero would be lost
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal setScale( int newScale, RoundingMode mode ) {
+      if ( newScale >= scale ){
+         return new BrobDecimal( rescale( unscaled, scale, newScale ), newScale );
+      }
+      int drop = checkScale( (long)scale - newScale );
+      BrobInt[] qr = unscaled.divRemPowerOfTen( drop );
+      return new BrobDecimal( round( qr[0], qr[1], BrobInt.ONE.timesPowerOfTen( drop ), unscaled.getSign() == 1, mode ),
+                              newScale );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to round this BrobDecimal to a number of digits, like BigDecimal.round()
+   *  @param  mc  the precision and rounding mode; a precision of zero leaves it as it is
+   *  @return BrobDecimal  with no more than mc.getPrecision() digits
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal round( MathContext mc ) {
+      int extra = getPrecision() - mc.getPrecision();
+      if ( mc.getPrecision() == 0 || extra <= 0 ){
+         return this;
+      }
+      BrobDecimal result = setScale( checkScale( (long)scale - extra ), mc.getRoundingMode() );
+      if ( result.getPrecision() > mc.getPrecision() ){
+         result = new BrobDecimal( result.unscaled.divRemPowerOfTen( 1 )[0], checkScale( (long)result.scale - 1 ) );
+      }
+      return result;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to take the zeros off the end of this BrobDecimal
+   *  @return BrobDecimal  with the same value and the smallest scale that holds it; zero has scale zero
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal stripTrailingZeros() {
+      if ( unscaled.equals( BrobInt.ZERO ) ){
+         return ZERO;
+      }
+      return stripZerosTo( Integer.MIN_VALUE );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to take zeros off the end of this BrobDecimal, but not below a given scale
+   *  @param  floor  the smallest scale to go down to
+   *  @return BrobDecimal  with the same value and fewer trailing zeros, if it had any to spare
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private BrobDecimal stripZerosTo( int floor ) {
+      long drop = Math.min( unscaled.trailingZeroDigits(), (long)scale - floor );
+      if ( drop <= 0 ){
+         return this;
+      }
+      return new BrobDecimal( unscaled.divRemPowerOfTen( (int)drop )[0], (int)(scale - drop) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to drop the fraction of this BrobDecimal
+   *  @return BrobInt  that is this value rounded toward zero
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt toBrobInt() {
+      return setScale( 0, RoundingMode.DOWN ).unscaled;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to round a truncated quotient by the rule of a rounding mode
+   *  @param  quotient     the quotient, rounded toward zero
+   *  @param  remainder    what was left over; zero if the quotient is exact
+   *  @param  divisor      what was divided by
+   *  @param  negative     true if the exact quotient is below zero, which the quotient can't say
+   *                        when it is zero itself
+   *  @param  mode         the rounding rule
+   *  @return BrobInt      that is the quotient, or one further from zero if the rule says so
+   *  @throws ArithmeticException if the mode is UNNECESSARY and the remainder is not zero
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt round( BrobInt quotient, BrobInt remainder, BrobInt divisor, boolean negative,
+                                 RoundingMode mode ) {
+      if ( remainder.equals( BrobInt.ZERO ) ){
+         return quotient;
+      }
+      boolean up;
+      switch ( mode ) {
+         case UP:          up = true;       break;
+         case DOWN:        up = false;      break;
+         case CEILING:     up = !negative;  break;
+         case FLOOR:       up = negative;   break;
+         case UNNECESSARY:
+            throw new ArithmeticException( "\n         Sorry, that needs rounding and the rounding mode is UNNECESSARY." );
+         default:
+            int half = abs( remainder ).shiftLeft( 1 ).compareTo( abs( divisor ) );
+            up = (half > 0) || (half == 0 && (mode == RoundingMode.HALF_UP ||
+                                              (mode == RoundingMode.HALF_EVEN && quotient.testBit( 0 ))));
+            break;
+      }
+      if ( !up ){
+         return quotient;
+      }
+      return negative ? quotient.subtractInt( BrobInt.ONE ) : quotient.addInt( BrobInt.ONE );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to bring an unscaled value from one scale up to a larger one
+   *  @param  value  the unscaled value
+   *  @param  from   its scale
+   *  @param  to     the scale wanted; not less than from
+   *  @return BrobInt  that is value * 10^(to - from)
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt rescale( BrobInt value, int from, int to ) {
+      return value.timesPowerOfTen( checkScale( (long)to - from ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to check that a scale worked out in a long still fits in an int
+   *  @param  value  the scale
+   *  @return int    the same scale
+   *  @throws ArithmeticException if it does not fit
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int checkScale( long value ) {
+      if ( value != (int)value ){
+         throw new ArithmeticException( "\n         Sorry, the scale is out of range." );
+      }
+      return (int)value;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find the magnitude of a BrobInt
+   *  @param  value    the BrobInt
+   *  @return BrobInt  that is value without its sign
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt abs( BrobInt value ) {
+      return (value.getSign() == 1) ? value.negate() : value;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to compare a BrobDecimal passed as argument to this BrobDecimal by numeric value
+   *  @param  other  BrobDecimal to compare to this
+   *  @return int   that is -1/0/1 if this BrobDecimal is less than/equal to/greater than the argument
+   *  NOTE: different signs settle it at once, and then the position of the leading digit; only
+   *        values whose leading digits line up have to be brought to the same scale
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int compareTo( BrobDecimal other ) {
+      int signum      = unscaled.equals( BrobInt.ZERO ) ? 0 : 1 - (2 * getSign());
+      int otherSignum = other.unscaled.equals( BrobInt.ZERO ) ? 0 : 1 - (2 * other.getSign());
+      if ( signum != otherSignum ){
+         return (signum < otherSignum) ? -1 : 1;
+      }
+      if ( signum == 0 ){
+         return 0;
+      }
+      long top      = (long)getPrecision() - scale;
+      long otherTop = (long)other.getPrecision() - other.scale;
+      if ( top != otherTop ){
+         return (top < otherTop) ? -signum : signum;
+      }
+      int common = Math.max( scale, other.scale );
+      return rescale( unscaled, scale, common ).compareTo( rescale( other.unscaled, other.scale, common ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to check if a BrobDecimal passed as argument is equal to this BrobDecimal
+   *  @param  other     object to compare to this
+   *  @return boolean   that is true if it is a BrobDecimal of the same value, whatever its scale
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public boolean equals( Object other ) {
+      if ( this == other ){
+         return true;
+      }
+      if ( !(other instanceof BrobDecimal) ){
+         return false;
+      }
+      return compareTo( (BrobDecimal)other ) == 0;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return a hash code that agrees with equals()
+   *  @return int  the hash of the value with its trailing zeros taken off, so every scale of the same
+   *               value hashes alike; worked out once and kept
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int hashCode() {
+      int h = hash;
+      if ( h == 0 ){
+         BrobDecimal stripped = stripTrailingZeros();
+         h = (31 * stripped.unscaled.hashCode()) + stripped.scale;
+         hash = h;
+      }
+      return h;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return a String representation of this BrobDecimal
+   *  @return String  with every digit written out and no exponent, like BigDecimal.toPlainString()
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public String toString() {
+      String digits = abs( unscaled ).toString();
+      StringBuilder sb = new StringBuilder( digits.length() + Math.abs( scale ) + 3 );
+      if ( getSign() == 1 ){
+         sb.append( '-' );
+      }
+      if ( scale <= 0 ){
+         sb.append( digits );
+         for ( int i = 0; i < -scale && !unscaled.equals( BrobInt.ZERO ); i++ ){
+            sb.append( '0' );
+         }
+      } else if ( digits.length() > scale ){
+         sb.append( digits, 0, digits.length() - scale ).append( '.' ).append( digits, digits.length() - scale, digits.length() );
+      } else {
+         sb.append( "0." );
+         for ( int i = digits.length(); i < scale; i++ ){
+            sb.append( '0' );
+         }
+         sb.append( digits );
+      }
+      return sb.toString();
+   }
+}
@@ -19,11 +19,27 @@
  *                                     start work on subtractByte and subtractInt methods
  *
  *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
 import java.lang.StringBuilder;
 import java.lang.Math;
 
-public class BrobInt {
+public final class BrobInt implements Comparable<BrobInt> {
+
+   private static final int[] NO_LIMBS = new int[0];                /// the magnitude of zero; must come first
 
    public static final BrobInt ZERO     = new BrobInt(  "0" );      /// Constant for "zero"
    public static final BrobInt ONE      = new BrobInt(  "1" );      /// Constant for "one"
@@ -37,65 +53,147 @@ public class BrobInt {
    public static final BrobInt NINE     = new BrobInt(  "9" );      /// Constant for "nine"
    public static final BrobInt TEN      = new BrobInt( "10" );      /// Constant for "ten"
 
+  /// valueOf() hands out shared instances for -CACHE_LIMIT through CACHE_LIMIT, built when the class
+  ///  loads; the named constants above fill their own slots.  Set the range with -Dbrobint.cacheLimit=N
+   private static final int       CACHE_LIMIT = Math.max( 0, Integer.getInteger( "brobint.cacheLimit", 1024 ) );
+   private static final BrobInt[] CACHE       = buildCache();
+
   /// Some constants for other intrinsic data types
   ///  these can help speed up the math if they fit into the proper memory space
-   // public static final BrobInt MAX_INT  = new BrobInt( new Integer( Integer.MAX_VALUE ).toString() );
-   // public static final BrobInt MIN_INT  = new BrobInt( new Integer( Integer.MIN_VALUE ).toString() );
-   // public static final BrobInt MAX_LONG = new BrobInt( new Long( Long.MAX_VALUE ).toString() );
-   // public static final BrobInt MIN_LONG = new BrobInt( new Long( Long.MIN_VALUE ).toString() );
+   public static final BrobInt MAX_INT  = valueOf( Integer.MAX_VALUE );
+   public static final BrobInt MIN_INT  = valueOf( Integer.MIN_VALUE );
+   public static final BrobInt MAX_LONG = valueOf( Long.MAX_VALUE );
+   public static final BrobInt MIN_LONG = valueOf( Long.MIN_VALUE );
+
+  /// The magnitude is kept as packed base 10^9 "limbs", so each int holds nine decimal digits
+   private static final int BASE        = 1000000000;   // radix of each limb
+   private static final int BASE_DIGITS = 9;            // number of decimal digits in each limb
+   private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000 };
+
+  /// Multiplication crossovers, in limbs of the shorter operand; calibrate them with BrobIntBenchmark
+   private static int karatsubaThreshold = 32;          // below this, multiply limb by limb
+   private static int toomCookThreshold  = 256;         // below this (and above Karatsuba), use Karatsuba
+   private static int nttThreshold       = 1024;        // below this (and above Toom-Cook), use Toom-Cook-3
+
+  /// Division crossover, in limbs of both the divisor and the quotient; below it, use long division
+   private static int newtonThreshold    = 2000;
+   private static final int RECIPROCAL_BASE = 16;       // reciprocals this short come from long division
+
+  /// Parallel multiplication: the worker pool, or null to stay on the calling thread, and the length
+  ///  in limbs of the shorter operand below which sub-products are not worth handing to another thread;
+  ///  both can be set from the command line with -Dbrobint.parallelism=N -Dbrobint.parallelThreshold=N
+   private static volatile ForkJoinPool workers = null;
+   private static int parallelThreshold = Integer.getInteger( "brobint.parallelThreshold", 256 );
+   static {
+      parallelism( Integer.getInteger( "brobint.parallelism", 1 ) );
+   }
+
+  /// modPow() reads the exponent four bits at a time, after splitting it into 29-bit chunks
+   private static final int MOD_POW_WINDOW_BITS = 4;
+   private static final int MOD_POW_WINDOW_SIZE = 1 << MOD_POW_WINDOW_BITS;
+   private static final int EXPONENT_CHUNK_BITS = 29;
+
+  /// Relative amount a double-based root seed is pushed up so it is sure to start above the root
+   private static final double ROOT_SEED_MARGIN = 1.0e-8;
+
+  /// Lehmer's gcd stops building up a step's cofactors once one reaches this size, so that a cofactor
+  ///  times a limb, plus another such product, still fits in a long
+   private static final long LEHMER_COFACTOR_LIMIT = 1L << 30;
+
+  /// Binary views of the decimal limbs are built a 32-bit word at a time, as far as one pass can
+  ///  shift a limb and its carry inside a long; shifts of up to SHIFT_PASS_LIMIT words go one limb
+  ///  pass per word, longer ones multiply or divide by the whole power of two
+   private static final int    WORD_BITS        = 32;
+   private static final long   WORD_MASK        = 0xFFFFFFFFL;
+   private static final int    SHIFT_PASS_LIMIT = 16;
+   private static final int    CONVERT_WORDS    = 256;   // at or below this, words go back to limbs one pass per word
+   private static final int    SPLIT_LIMBS      = 16384; // below this, limbs go to words one pass per word
+   private static final double LOG2_BASE        = Math.log( BASE ) / Math.log( 2.0 );
+
+  /// Streaming output formats this many limbs at a time, so writeTo() never holds the whole string
+   private static final int WRITE_CHUNK_LIMBS = 1024;
+
+  /// Binary form: a little-endian int header holding the limb count shifted up one bit with the sign
+  ///  in the low bit, then the limbs, least significant first, as little-endian ints; nine digits
+  ///  take four bytes instead of nine, and the limbs go in and out with one bulk copy
+   private static final int HEADER_BYTES = 4;
+
+  /// Number-theoretic transform primes, each of the form c * 2^k + 1 with a known primitive root;
+  ///  their product (about 6 * 10^25) bounds every convolution column of two 10^9-limb operands
+  ///  up to MAX_NTT_LENGTH limbs long, so the Chinese remainder theorem recovers columns exactly
+   private static final int[] NTT_PRIMES     = { 754974721, 167772161, 469762049 };
+   private static final int[] NTT_ROOTS      = {        11,         3,         3 };
+   private static final int   MAX_NTT_LENGTH = 1 << 24;   // the largest power of two dividing every p - 1
+
+  /// These are the internal fields; both are set once by a constructor and never change afterwards,
+  ///  and the limb array is never handed out, so a BrobInt can be shared freely between threads
+   private final int[] limbs;       // magnitude, least significant limb first, no leading zero limbs
+   private final int   sign;        // "0" is positive, "1" is negative
+
+  /// hashCode() fills this in the first time it is asked; any thread that races it just works out the
+  ///  same value again, so it needs no locking (the same trick String uses)
+   private int hash;
 
-  /// These are the internal fields
-   private String internalValue = "";        // internal String representation of this BrobInt
-   private int   sign          = 0;         // "0" is positive, "1" is negative
-   private String reversed      = "";        // the backwards version of the internal String representation
-   private int[] intVersion   = null;      // byte array for storing the string values; uses the reversed string
+  /// testBit() fills this in the first time it is asked with the two's complement 32-bit words, the
+  ///  lowest first; it is volatile so a thread that sees the array also sees what was written into it
+   private volatile int[] words;
 
   /**
    *  Constructor takes a string and assigns it to the internal storage, checks for a sign character
-   *   and handles that accordingly;  it then checks to see if it's all valid digits, and reverses it
-   *   for later use
+   *   and handles that accordingly;  it then checks to see if it's all valid digits, and packs them
+   *   nine at a time into the limb array, dropping any leading zeros
    *  @param  value  String value to make into a BrobInt
    *  @throws  IllegalArgumentException if something is hinky
    */
    public BrobInt( String value ) {
-      StringBuilder sb = new StringBuilder();
-      StringBuilder reversedSB = new StringBuilder();
-      if ( value == "" || value == null ){
+      if ( value == null || value.length() == 0 ){
          throw new IllegalArgumentException();
       }
-      for ( int k = 0; k < value.length(); k++ ){
-         validateDigits(value.charAt(k));
-      }
+      int start = 0;
+      int negative = 0;
       if ( value.charAt(0) == '-' ){
-         sign = 1;
-         intVersion = new int[value.length()-1];
-         for ( int i = 1; i < value.length(); i++ ){
-            sb.append( value.charAt(i) );
-            reversedSB.append( value.charAt( value.length() - i) );
-            intVersion[i-1] = value.charAt(i) - '0';
-         }
-         internalValue = sb.toString();
-         reversed = reversedSB.toString();
+         negative = 1;
+         start = 1;
       } else if ( value.charAt(0) == '+' ) {
-         sign = 0;
-         intVersion = new int[value.length()-1];
-         for ( int i = 1; i < value.length(); i++ ){
-            sb.append( value.charAt(i) );
-            reversedSB.append( value.charAt( value.length() - i) );
-            intVersion[i-1] = value.charAt(i) - '0';
-         }
-         internalValue = sb.toString();
-         reversed = reversedSB.toString();
-      } else {
-         sign = 0;
-         intVersion = new int[value.length()];
-         internalValue = value;
-         for ( int i = 0; i < value.length(); i++ ){
-            reversedSB.append( value.charAt( (value.length() - 1) - i) );
-            intVersion[i] = value.charAt(i) - '0';
+         start = 1;
+      }
+      if ( start == value.length() ){
+         throw new IllegalArgumentException();
+      }
+      while ( start < value.length() - 1 && value.charAt(start) == '0' ){
+         start++;
+      }
+      int digits = value.length() - start;
+      int[] magnitude = new int[(digits + BASE_DIGITS - 1) / BASE_DIGITS];
+      int end = value.length();
+      for ( int i = 0; i < magnitude.length; i++ ){
+         int begin = Math.max( start, end - BASE_DIGITS );
+         int limb = 0;
+         for ( int k = begin; k < end; k++ ){
+            int digit = value.charAt(k) - '0';
+            if ( digit < 0 || digit > 9 ){
+               throw new IllegalArgumentException();
+            }
+            limb = (limb * 10) + digit;
          }
-         reversed = reversedSB.toString();
+         magnitude[i] = limb;
+         end = begin;
+      }
+      if ( magnitude.length == 1 && magnitude[0] == 0 ){
+         magnitude = NO_LIMBS;
       }
+      limbs = magnitude;
+      sign  = (magnitude.length == 0) ? 0 : negative;
+   }
+
+  /**
+   *  Constructor used internally to wrap an already normalized limb array
+   *  @param  limbs  base 10^9 magnitude, least significant limb first, with no leading zero limbs
+   *  @param  sign   "0" for positive, "1" for negative
+   */
+   private BrobInt( int[] limbs, int sign ) {
+      this.limbs = limbs;
+      this.sign  = (limbs.length == 0) ? 0 : sign;
    }
 
    /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -107,26 +205,93 @@ public class BrobInt {
    }
 
    /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-    *  Method to set the sign of this BrobInt
-    *  @return nothing (its a void method)
+    *  Method to return a BrobInt with the same magnitude as this one and the opposite sign
+    *  @return BrobInt that is the negative of this BrobInt; this BrobInt is left as it was
+    *  NOTE: this replaces the old setSign(), since a BrobInt can no longer be changed once made
     *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public void setSign( int newSign ){
-      sign = newSign;
+   public BrobInt negate(){
+      return new BrobInt( limbs, 1 - sign );
    }
 
    /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     *  Method to return the internalValue string of this BrobInt
     *  @return the internalValue string (version of this BrobInt without its sign) of this BrobInt
+    *  NOTE: the string is built from the limbs on each call; the top limb is written as-is and every
+    *        lower limb is zero-padded out to nine digits
     *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
    public String getInternalValue(){
-      return internalValue;
+      char[] digits = new char[digitCount()];
+      writeDigits( digits, 0 );
+      return new String( digits );
+   }
+
+  /**
+   *  Counts the decimal digits of the magnitude, which is nine per limb below the top one plus
+   *   however many the top limb needs on its own; zero is one digit.  BrobDecimal uses it for
+   *   its precision
+   *  @return  the number of characters writeDigits() will fill
+   */
+   int digitCount() {
+      return digitCountOf( limbs.length, (limbs.length == 0) ? 0 : limbs[limbs.length - 1] );
+   }
+
+  /**
+   *  Counts the decimal digits of a magnitude from its limb count and top limb alone, which is all
+   *   digitCount() needs; BrobIntStore uses it on a mapped value
+   */
+   static int digitCountOf( int length, int top ) {
+      if ( length == 0 ){
+         return 1;
+      }
+      int count = 1;
+      while ( top >= 10 ){
+         top = top / 10;
+         count++;
+      }
+      return count + ((length - 1) * BASE_DIGITS);
+   }
+
+  /**
+   *  Writes the decimal digits of the magnitude, most significant first, into a character array;
+   *   since every limb is exactly nine decimal digits, each one is formatted on its own with no
+   *   carries between limbs, so the conversion is linear in the digit count and needs no splitting
+   *   by powers of ten the way a binary representation would
+   *  @param  out     the array to fill, with at least digitCount() characters free from offset on
+   *  @param  offset  where the most significant digit goes
+   */
+   private void writeDigits( char[] out, int offset ) {
+      int pos = offset + digitCount();
+      if ( limbs.length == 0 ){
+         out[offset] = '0';
+         return;
+      }
+      for ( int i = 0; i < limbs.length - 1; i++ ){
+         int limb = limbs[i];
+         for ( int k = 0; k < BASE_DIGITS; k++ ){
+            int next = limb / 10;
+            out[--pos] = (char)('0' + (limb - (next * 10)));
+            limb = next;
+         }
+      }
+      int top = limbs[limbs.length - 1];
+      while ( pos > offset ){
+         int next = top / 10;
+         out[--pos] = (char)('0' + (top - (next * 10)));
+         top = next;
+      }
    }
 
    /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     *  Method to return the integer array of this BrobInt
     *  @return the integer array (version of this BrobInt without its sign) of this BrobInt
+    *  NOTE: this is one int per decimal digit, most significant first, unpacked from the limbs
     *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
    public int[] getIntVersion(){
+      String internalValue = getInternalValue();
+      int[] intVersion = new int[internalValue.length()];
+      for ( int i = 0; i < intVersion.length; i++ ){
+         intVersion[i] = internalValue.charAt(i) - '0';
+      }
       return intVersion;
    }
 
@@ -153,6 +318,7 @@ public class BrobInt {
    *  @return BrobInt that is the reverse of the value of this BrobInt
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
    public BrobInt reverser() {
+      String internalValue = getInternalValue();
       StringBuilder reversedSB2 = new StringBuilder();
       for ( int i = 0; i < internalValue.length(); i++ ){
          reversedSB2.append( internalValue.charAt( (internalValue.length() - 1) - i) );
@@ -174,377 +340,2153 @@ public class BrobInt {
    *  Method to add the value of a BrobIntk passed as argument to this BrobInt using byte array
    *  @param  gint         BrobInt to add to this
    *  @return BrobInt that is the sum of the value of this BrobInt and the one passed in
+   *  NOTE: both add methods now run the same single carry pass over the limb arrays
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
    public BrobInt addByte( BrobInt gint ) {
-      int[] intVersion2 = gint.getIntVersion();
-      int[] a = null;
-      int[] b = null;
-      int addSign = 0;
-      int digit = 0;
-      int rem = 0;
-      StringBuilder result = new StringBuilder();
-      if ( sign == 1 && gint.getSign() == 1 ){
-         addSign = 1;
-      }
-      if ( sign == 0 && gint.getSign() == 1 ){
-         return subtractByte( new BrobInt(gint.getInternalValue()) );
-      }
-      if ( sign == 1 && gint.getSign() == 0 ){
-         return gint.subtractByte( new BrobInt( internalValue));
-      }
-      if ( intVersion.length >= intVersion2.length ){
-         a = intVersion;
-         b = intVersion2;
+      return addSigned( gint.limbs, gint.getSign() );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to add the value of a BrobIntk passed as argument to this BrobInt using int array
+   *  @param  gint         BrobInt to add to this
+   *  @return BrobInt that is the sum of the value of this BrobInt and the one passed in
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt addInt( BrobInt gint ) {
+      return addSigned( gint.limbs, gint.getSign() );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to subtract the value of a BrobIntk passed as argument to this BrobInt using bytes
+   *  @param  gint         BrobInt to subtract from this
+   *  @return BrobInt that is the difference of the value of this BrobInt and the one passed in
+   *  NOTE: subtraction is addition with the sign of the argument flipped
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt subtractByte( BrobInt gint ) {
+      return addSigned( gint.limbs, 1 - gint.getSign() );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to subtract the value of a BrobIntk passed as argument to this BrobInt using int array
+   *  @param  gint         BrobInt to subtract from this
+   *  @return BrobInt that is the difference of the value of this BrobInt and the one passed in
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt subtractInt( BrobInt gint ) {
+      return addSigned( gint.limbs, 1 - gint.getSign() );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to add a signed magnitude to this BrobInt; same signs add the magnitudes, different signs
+   *   subtract the smaller magnitude from the larger one and take the sign of the larger
+   *  @param  other        limbs of the value to add
+   *  @param  otherSign    "0" if that value is positive, "1" if negative
+   *  @return BrobInt that is the sum
+   *  NOTE: two values of at most two limbs are both under 10^18, so their sum is done in a long and
+   *        can't overflow; only longer values go through the limb arrays
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private BrobInt addSigned( int[] other, int otherSign ) {
+      if ( limbs.length <= 2 && other.length <= 2 ){
+         return fromLong( toLong( limbs, sign ) + toLong( other, otherSign ) );
+      }
+      if ( sign == otherSign ){
+         return new BrobInt( addLimbs( limbs, other ), sign );
+      }
+      int cmp = compareLimbs( limbs, other );
+      if ( cmp == 0 ){
+         return new BrobInt( NO_LIMBS, 0 );
+      } else if ( cmp > 0 ){
+         return new BrobInt( subtractLimbs( limbs, other ), sign );
       } else {
-         a = intVersion2;
-         b = intVersion;
+         return new BrobInt( subtractLimbs( other, limbs ), otherSign );
       }
-      int bIndex = b.length - 1;
-      for ( int i = a.length - 1; i > -1; i-- ){
-         if ( a.length == b.length ){
-            digit = ( a[i] + b[i] + rem );
-         } else {
-            if ( bIndex >= 0 ){
-               digit = ( a[i] + b[bIndex] + rem );
-               bIndex = bIndex - 1;
-            } else {
-               digit = a[i] + rem;
-            }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to compare two magnitudes limb by limb, checking the lengths first
+   *  @param  a  limbs of the first magnitude
+   *  @param  b  limbs of the second magnitude
+   *  @return int  that is one of neg/0/pos if a is less than/equal to/greater than b
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int compareLimbs( int[] a, int[] b ) {
+      if ( a.length != b.length ){
+         return (a.length < b.length) ? -1 : 1;
+      }
+      for ( int i = a.length - 1; i >= 0; i-- ){
+         if ( a[i] != b[i] ){
+            return (a[i] < b[i]) ? -1 : 1;
          }
-         if ( digit > 9 ) {
-            rem = 1;
-            digit = digit - 10;
+      }
+      return 0;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to add two magnitudes in a single carry pass
+   *  @param  a  limbs of the first magnitude
+   *  @param  b  limbs of the second magnitude
+   *  @return int array holding the limbs of the sum
+   *  NOTE: the result is allocated at the length of the longer operand and only grown by one limb
+   *        when the final carry spills over the top
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] addLimbs( int[] a, int[] b ) {
+      if ( a.length < b.length ){
+         int[] temp = a;
+         a = b;
+         b = temp;
+      }
+      int[] result = new int[a.length];
+      int carry = 0;
+      int i = 0;
+      for ( ; i < b.length; i++ ){
+         int sum = a[i] + b[i] + carry;
+         if ( sum >= BASE ){
+            result[i] = sum - BASE;
+            carry = 1;
          } else {
-            rem = 0;
+            result[i] = sum;
+            carry = 0;
          }
-         result.append(digit);
       }
-      if ( rem == 1 ){
-         result.append(1);
+      for ( ; i < a.length && carry == 1; i++ ){
+         if ( a[i] == BASE - 1 ){
+            result[i] = 0;
+         } else {
+            result[i] = a[i] + 1;
+            carry = 0;
+         }
       }
-      if ( addSign == 1 ){
-         result.append('-');
+      System.arraycopy( a, i, result, i, a.length - i );
+      if ( carry == 1 ){
+         result = Arrays.copyOf( result, a.length + 1 );
+         result[a.length] = 1;
       }
-      BrobInt resultInt = new BrobInt( result.toString() );
-      BrobInt resultInt2 = new BrobInt( resultInt.reverser().toString() );
-      return (new BrobInt( resultInt2.toString().replaceFirst("^0+(?!$)", "") ) );
+      return result;
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to add the value of a BrobIntk passed as argument to this BrobInt using int array
-   *  @param  gint         BrobInt to add to this
-   *  @return BrobInt that is the sum of the value of this BrobInt and the one passed in
+   *  Method to subtract one magnitude from another in a single borrow pass
+   *  @param  a  limbs of the larger magnitude
+   *  @param  b  limbs of the smaller magnitude
+   *  @return int array holding the limbs of the difference, with leading zero limbs dropped
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public BrobInt addInt( BrobInt gint ) {
-      String input = gint.getInternalValue();
-      String a = "";
-      String b = "";
-      int addSign = 0;
-      int digit = 0;
-      int rem = 0;
-      StringBuilder result = new StringBuilder();
-      if ( sign == 1 && gint.getSign() == 1 ){
-         addSign = 1;
-      }
-      if ( sign == 0 && gint.getSign() == 1 ){
-         //result.append( subtractByte( new BrobInt(gint.getInternalValue()) ) );
-         return subtractByte( new BrobInt(gint.getInternalValue()) );
-      }
-      if ( sign == 1 && gint.getSign() == 0 ){
-         return gint.subtractByte( new BrobInt( internalValue));
-      }
-      if ( internalValue.length() >= input.length() ){
-         a = internalValue;
-         b = input;
-      } else {
-         a = input;
-         b = internalValue;
-      }
-      int bIndex = b.length() - 1;
-      for ( int i = a.length() - 1; i > -1; i-- ){
-         if ( a.length() == b.length() ){
-            digit = ( (a.charAt(i) - '0') + (b.charAt(i) - '0') + rem );
+   private static int[] subtractLimbs( int[] a, int[] b ) {
+      int[] result = new int[a.length];
+      int borrow = 0;
+      int i = 0;
+      for ( ; i < b.length; i++ ){
+         int diff = a[i] - b[i] - borrow;
+         if ( diff < 0 ){
+            result[i] = diff + BASE;
+            borrow = 1;
          } else {
-            if ( bIndex >= 0 ){
-               digit = ( (a.charAt(i) - '0') + (b.charAt(bIndex) - '0') + rem );
-               bIndex = bIndex - 1;
-            } else {
-               digit = (a.charAt(i) - '0') + rem;
-            }
+            result[i] = diff;
+            borrow = 0;
          }
-         if ( digit > 9 ) {
-            rem = 1;
-            digit = digit - 10;
+      }
+      for ( ; i < a.length && borrow == 1; i++ ){
+         if ( a[i] == 0 ){
+            result[i] = BASE - 1;
          } else {
-            rem = 0;
+            result[i] = a[i] - 1;
+            borrow = 0;
+         }
+      }
+      System.arraycopy( a, i, result, i, a.length - i );
+      return trimLimbs( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to drop any leading zero limbs, copying only if there is something to drop
+   *  @param  a  limbs to normalize
+   *  @return int array with no leading zero limbs; the same array if it was already normalized
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] trimLimbs( int[] a ) {
+      int length = a.length;
+      while ( length > 0 && a[length - 1] == 0 ){
+         length--;
+      }
+      return (length == a.length) ? a : Arrays.copyOf( a, length );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply the value of a BrobIntk passed as argument to this BrobInt
+   *  @param  gint         BrobInt to multiply by this
+   *  @return BrobInt that is the product of the value of this BrobInt and the one passed in
+   *  NOTE: when both values fit in two limbs and the high half of their 128-bit product is zero,
+   *        the product is done in a long; otherwise it overflows into the limb algorithms below
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt multiply( BrobInt gint ) {
+      if ( limbs.length <= 2 && gint.limbs.length <= 2 ){
+         long x = toLong( limbs, 0 );
+         long y = toLong( gint.limbs, 0 );
+         long product = x * y;
+         if ( Math.multiplyHigh( x, y ) == 0 && product >= 0 ){
+            return fromLong( (sign == gint.sign) ? product : -product );
          }
-         result.append(digit);
       }
-      if ( rem == 1 ){
-         result.append(1);
+      return new BrobInt( multiplyInPool( limbs, gint.limbs ), sign ^ gint.sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to raise this BrobInt to a power by square-and-multiply
+   *  @param  exponent  the power; not negative
+   *  @return BrobInt that is this BrobInt to the power exponent; anything to the power zero is one
+   *  @throws ArithmeticException if the exponent is negative
+   *  NOTE: the exponent's bits are read from the top, squaring at each one and multiplying in this
+   *        BrobInt where the bit is set; the squares go through the squaring kernels in multiply()
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt pow( int exponent ) {
+      if ( exponent < 0 ){
+         throw new ArithmeticException( "\n         Sorry, the exponent can't be negative." );
       }
-      if ( addSign == 1 ){
-         result.append('-');
+      BrobInt result = ONE;
+      for ( int bit = 31 - Integer.numberOfLeadingZeros( exponent ); bit >= 0; bit-- ){
+         result = result.multiply( result );
+         if ( ((exponent >>> bit) & 1) == 1 ){
+            result = result.multiply( this );
+         }
       }
-      BrobInt resultInt = new BrobInt( result.toString() );
-      BrobInt resultInt2 = new BrobInt( resultInt.reverser().toString() );
-      return (new BrobInt( resultInt2.toString().replaceFirst("^0+(?!$)", "") ) );
+      return result;
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to subtract the value of a BrobIntk passed as argument to this BrobInt using bytes
-   *  @param  gint         BrobInt to subtract from this
-   *  @return BrobInt that is the difference of the value of this BrobInt and the one passed in
+   *  Method to raise this BrobInt to a power modulo a positive modulus, like BigInteger.modPow()
+   *  @param  exponent  the power; not negative
+   *  @param  modulus   the modulus; positive
+   *  @return BrobInt that is this BrobInt to the power exponent, reduced into 0 through modulus - 1
+   *  @throws ArithmeticException if the modulus is not positive or the exponent is negative
+   *  NOTE: every product is reduced as soon as it is made, with Barrett's method, so nothing longer
+   *        than twice the modulus is ever built; the exponent is taken four bits at a time against
+   *        a table of the first sixteen powers.  Barrett is used rather than Montgomery because it
+   *        works for any modulus, where Montgomery in base 10^9 would need one prime to 2 and 5
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public BrobInt subtractByte( BrobInt gint ) {
-      String input = gint.getInternalValue();
-      String a = "";
-      String b = "";
-      int digit = 0;
-      int borrower = 0;
-      int subSign = 0;
-      int switchOrder = 0;
-      StringBuilder result = new StringBuilder();
-      if ( sign == 0 && gint.getSign() == 1 ){
-         return addInt( new BrobInt(gint.getInternalValue()) );
-      }
-      if ( sign == 1 && gint.getSign() == 0 ){
-         result.append( '-' );
-         BrobInt resultIntTemp = new BrobInt( internalValue );
-         result.append( resultIntTemp.addInt(gint).toString() );
-         return ( new BrobInt(result.toString()) );
-      }
-      if ( sign == 1 && gint.getSign() == 1 ){
-         subSign = 1;
-         switchOrder = 1;
-      }
-      if ( internalValue.length() >= input.length() ){
-         a = internalValue;
-         b = input;
+   public BrobInt modPow( BrobInt exponent, BrobInt modulus ) {
+      if ( modulus.sign == 1 || modulus.limbs.length == 0 ){
+         throw new ArithmeticException( "\n         Sorry, the modulus must be positive." );
+      }
+      if ( exponent.sign == 1 ){
+         throw new ArithmeticException( "\n         Sorry, the exponent can't be negative." );
+      }
+      int[] m = modulus.limbs;
+      if ( m.length == 1 && m[0] == 1 ){
+         return ZERO;
+      }
+      int[] power = new int[(2 * m.length) + 1];
+      power[2 * m.length] = 1;
+      int[] mu = divRemLimbs( power, m )[0];
+
+      int[] base = divRemLimbs( limbs, m )[1];
+      if ( sign == 1 && base.length > 0 ){
+         base = subtractLimbs( m, base );
+      }
+      int[][] table = new int[MOD_POW_WINDOW_SIZE][];
+      table[0] = ONE.limbs;
+      for ( int i = 1; i < table.length; i++ ){
+         table[i] = barrettReduce( multiplyLimbs( table[i - 1], base ), m, mu );
+      }
+
+      int[] chunks = exponentChunks( exponent.limbs );
+      int bits = (chunks.length == 0) ? 0 : ((chunks.length - 1) * EXPONENT_CHUNK_BITS) +
+                                            (32 - Integer.numberOfLeadingZeros( chunks[chunks.length - 1] ));
+      int[] result = ONE.limbs;
+      for ( int top = ((bits + MOD_POW_WINDOW_BITS - 1) / MOD_POW_WINDOW_BITS) * MOD_POW_WINDOW_BITS; top > 0;
+            top -= MOD_POW_WINDOW_BITS ){
+         int window = 0;
+         for ( int bit = top - 1; bit >= top - MOD_POW_WINDOW_BITS; bit-- ){
+            result = barrettReduce( multiplyLimbs( result, result ), m, mu );
+            int chunk = bit / EXPONENT_CHUNK_BITS;
+            window = (window << 1) | ((chunk < chunks.length) ? (chunks[chunk] >>> (bit % EXPONENT_CHUNK_BITS)) & 1 : 0);
+         }
+         if ( window != 0 ){
+            result = barrettReduce( multiplyLimbs( result, table[window] ), m, mu );
+         }
+      }
+      return new BrobInt( barrettReduce( result, m, mu ), 0 );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find the integer square root of this BrobInt
+   *  @return BrobInt that is the largest value whose square is no more than this BrobInt
+   *  @throws ArithmeticException if this BrobInt is negative
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt sqrt() {
+      if ( sign == 1 ){
+         throw new ArithmeticException( "\n         Sorry, you can't take the square root of a negative number." );
+      }
+      return rootOf( this, 2 );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find the integer nth root of this BrobInt
+   *  @param  n  which root to take; at least one
+   *  @return BrobInt that is the nth root rounded toward zero; an odd root of a negative value is
+   *                  the negative of the root of its magnitude
+   *  @throws ArithmeticException if n is less than one, or n is even and this BrobInt is negative
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt nthRoot( int n ) {
+      if ( n < 1 ){
+         throw new ArithmeticException( "\n         Sorry, the root must be at least one." );
+      }
+      if ( sign == 1 && (n % 2) == 0 ){
+         throw new ArithmeticException( "\n         Sorry, you can't take an even root of a negative number." );
+      }
+      if ( n == 1 ){
+         return this;
+      }
+      BrobInt root = rootOf( new BrobInt( limbs, 0 ), n );
+      return (sign == 1) ? root.negate() : root;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find the integer nth root of a non-negative value with Newton's iteration
+   *  @param  value  the value; not negative
+   *  @param  n      which root to take; at least two
+   *  @return BrobInt that is the largest value whose nth power is no more than value
+   *  NOTE: the seed comes from the root of the top half of the limbs, found the same way, times a
+   *        power of the base, and is rounded up so it starts above the root; from above, each step
+   *        x = ((n - 1)x + value / x^(n - 1)) / n stays at or above the root and falls until it is
+   *        exact, so the iteration stops the first time a step doesn't go down.  Starting with
+   *        half the digits right, that is usually two or three full-size divisions.  Values short
+   *        enough to have a root of two limbs or less are seeded from a double of the top two limbs,
+   *        padded by ROOT_SEED_MARGIN to cover the limbs below them and rounded up.  A value below
+   *        2^n has a root of one, which is returned before any power is taken; otherwise a root
+   *        index in the millions would make x^(n - 1) millions of digits long for a root of one
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt rootOf( BrobInt value, int n ) {
+      int[] v = value.limbs;
+      if ( v.length == 0 ){
+         return ZERO;
+      }
+      if ( n >= bitLengthOf( v ) ){
+         return ONE;
+      }
+      int rootLength = (v.length + n - 1) / n;
+      BrobInt x;
+      if ( rootLength <= 2 ){
+         double top = (v.length == 1) ? v[0] : (v[v.length - 1] * (double)BASE) + v[v.length - 2];
+         double log10 = Math.log10( top ) + (BASE_DIGITS * Math.max( 0, v.length - 2 ));
+         x = valueOf( Math.max( 1L, (long)Math.ceil( Math.pow( 10.0, log10 / n ) * (1.0 + ROOT_SEED_MARGIN) ) ) );
       } else {
-         a = input;
-         b = internalValue;
-         subSign = 1;
-      }
-      if ( internalValue.length() == input.length() ){
-         if ( compareTo( new BrobInt(input) ) < 0 ){
-            if ( switchOrder == 1 ){
-               BrobInt resultInt = new BrobInt(input);
-               return resultInt.subtractByte( new BrobInt(internalValue) );
+         int shift = Math.max( 1, (rootLength / 2) - 1 );
+         BrobInt topRoot = rootOf( new BrobInt( sliceLimbs( v, n * shift, v.length ), 0 ), n );
+         x = new BrobInt( trimLimbs( shiftLimbsUp( topRoot.addInt( ONE ).limbs, shift ) ), 0 );
+      }
+      BrobInt count = valueOf( n );
+      BrobInt lower = valueOf( n - 1 );
+      while ( true ){
+         BrobInt power = (n == 2) ? x : x.pow( n - 1 );
+         BrobInt next  = x.multiply( lower ).addInt( value.divide( power ) ).divide( count );
+         if ( compareLimbs( next.limbs, x.limbs ) >= 0 ){
+            return x;
+         }
+         x = next;
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find the greatest common divisor of this BrobInt and another one
+   *  @param  gint  the other BrobInt
+   *  @return BrobInt that is the largest value dividing both; never negative, and zero only when
+   *                  both are zero
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt gcd( BrobInt gint ) {
+      return gcdLimbs( limbs, gint.limbs, false )[0];
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find the greatest common divisor of this BrobInt and another one, together with the
+   *   Bezout coefficients that make it
+   *  @param  gint  the other BrobInt
+   *  @return BrobInt array { g, x, y } where g is gcd() and this * x + gint * y == g
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt[] extendedGcd( BrobInt gint ) {
+      if ( gint.limbs.length == 0 ){
+         BrobInt x = (limbs.length == 0) ? ZERO : (sign == 1) ? ONE.negate() : ONE;
+         return new BrobInt[] { new BrobInt( limbs, 0 ), x, ZERO };
+      }
+      BrobInt[] gs = gcdLimbs( limbs, gint.limbs, true );
+      BrobInt x = (sign == 1) ? gs[1].negate() : gs[1];
+      BrobInt y = gs[0].subtractInt( multiply( x ) ).divide( gint );
+      return new BrobInt[] { gs[0], x, y };
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find the gcd of two magnitudes with Lehmer's algorithm
+   *  @param  a         limbs of the first magnitude
+   *  @param  b         limbs of the second magnitude
+   *  @param  extended  whether to also track the coefficient of a
+   *  @return BrobInt array { g, s } where g is the gcd and, if extended, a * s == g modulo b
+   *  NOTE: while the smaller value is more than two limbs, the top two limbs of both (at the same
+   *        position) run through Euclid's algorithm in longs for as long as the quotients are sure to
+   *        match the full values' (Cohen's two-quotient test), and the 2x2 matrix of cofactors built
+   *        up is then applied to the full values in one linear pass.  A step that makes no progress
+   *        falls back to one full division.  Once both fit in two limbs the plain gcd finishes with
+   *        the binary method on longs, and the extended one with Euclid's, which is as quick there
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt[] gcdLimbs( int[] a, int[] b, boolean extended ) {
+      BrobInt s0 = ONE;
+      BrobInt s1 = ZERO;
+      if ( compareLimbs( a, b ) < 0 ){
+         int[] temp = a;
+         a  = b;
+         b  = temp;
+         s0 = ZERO;
+         s1 = ONE;
+      }
+      while ( b.length > 2 ){
+         int  n  = a.length;
+         long ah = (a[n - 1] * (long)BASE) + a[n - 2];
+         long bh = ((n - 1 < b.length) ? b[n - 1] * (long)BASE : 0) + ((n - 2 < b.length) ? b[n - 2] : 0);
+         long ca = 1;
+         long cb = 0;
+         long cc = 0;
+         long cd = 1;
+         while ( bh + cc != 0 && bh + cd != 0 ){
+            long q = (ah + ca) / (bh + cc);
+            if ( q != (ah + cb) / (bh + cd) ){
+               break;
             }
-            if ( internalValue.length() == 1 && internalValue.charAt(0) == '0') {
-               result.append('-' + input);
-               return new BrobInt(result.toString());
+            long nextC = ca - (q * cc);
+            long nextD = cb - (q * cd);
+            if ( Math.abs( nextC ) >= LEHMER_COFACTOR_LIMIT || Math.abs( nextD ) >= LEHMER_COFACTOR_LIMIT ){
+               break;
             }
-            subSign = 1;
-         }
-      }
-      int bIndex = b.length() - 1;
-      for ( int i = a.length() - 1; i > -1; i-- ){
-         if ( a.length() == b.length() ){
-            if ( ((a.charAt(i) - '0') - borrower) >= (b.charAt(i) - '0') ){
-               digit = ((a.charAt(i) - '0') - borrower) - (b.charAt(i) - '0');
-               borrower = 0;
-            } else {
-               digit = ((a.charAt(i) - '0') + 10) - (b.charAt(i) - '0');
-               borrower = 1;
+            ca = cc;
+            cb = cd;
+            cc = nextC;
+            cd = nextD;
+            long nextB = ah - (q * bh);
+            ah = bh;
+            bh = nextB;
+         }
+         if ( cb == 0 ){
+            int[][] qr = divRemLimbs( a, b );
+            if ( extended ){
+               BrobInt next = s0.subtractInt( new BrobInt( qr[0], 0 ).multiply( s1 ) );
+               s0 = s1;
+               s1 = next;
             }
+            a = b;
+            b = qr[1];
          } else {
-            if ( bIndex >= 0 ){
-               if ( ((a.charAt(i) - '0') - borrower) >= (b.charAt(bIndex) - '0') ){
-                  digit = ((a.charAt(i) - '0') - borrower) - (b.charAt(bIndex) - '0');
-                  borrower = 0;
-               } else {
-                  digit = ((a.charAt(i) - '0') + 10 - borrower) - (b.charAt(bIndex) - '0');
-                  borrower = 1;
-               }
-            } else {
-               digit = (a.charAt(i) - '0') - borrower;
-               borrower = 0;
+            int[] nextA = combineLimbs( ca, a, cb, b );
+            int[] nextB = combineLimbs( cc, a, cd, b );
+            if ( extended ){
+               BrobInt nextS0 = s0.multiply( valueOf( ca ) ).addInt( s1.multiply( valueOf( cb ) ) );
+               BrobInt nextS1 = s0.multiply( valueOf( cc ) ).addInt( s1.multiply( valueOf( cd ) ) );
+               s0 = nextS0;
+               s1 = nextS1;
             }
+            a = nextA;
+            b = nextB;
          }
-         bIndex = bIndex - 1;
-         result.append(digit);
       }
-      if ( subSign == 1 ){
-         result.append( '-' );
+      if ( extended ){
+         while ( b.length > 0 ){
+            int[][] qr = divRemLimbs( a, b );
+            BrobInt next = s0.subtractInt( new BrobInt( qr[0], 0 ).multiply( s1 ) );
+            s0 = s1;
+            s1 = next;
+            a = b;
+            b = qr[1];
+         }
+         return new BrobInt[] { new BrobInt( a, 0 ), s0 };
+      }
+      if ( b.length == 0 ){
+         return new BrobInt[] { new BrobInt( a, 0 ), null };
       }
-      BrobInt resultInt = new BrobInt( result.toString() );
-      BrobInt resultInt2 = new BrobInt( resultInt.reverser().toString() );
-      return (new BrobInt( resultInt2.toString().replaceFirst("^0+(?!$)", "") ) );
+      int[] r = (a.length > 2) ? divRemLimbs( a, b )[1] : a;
+      return new BrobInt[] { fromLong( binaryGcd( toLong( b, 0 ), toLong( r, 0 ) ) ), null };
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to subtract the value of a BrobIntk passed as argument to this BrobInt using int array
-   *  @param  gint         BrobInt to subtract from this
-   *  @return BrobInt that is the difference of the value of this BrobInt and the one passed in
+   *  Method to find the gcd of two non-negative longs with the binary method, which needs only
+   *   shifts and subtractions
+   *  @param  x  first value
+   *  @param  y  second value
+   *  @return long  the gcd; zero only if both are zero
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public BrobInt subtractInt( BrobInt gint ) {
-      throw new UnsupportedOperationException( "\n         Sorry, that operation is not yet implemented." );
+   private static long binaryGcd( long x, long y ) {
+      if ( x == 0 || y == 0 ){
+         return x | y;
+      }
+      int shift = Long.numberOfTrailingZeros( x | y );
+      x >>= Long.numberOfTrailingZeros( x );
+      while ( y != 0 ){
+         y >>= Long.numberOfTrailingZeros( y );
+         if ( x > y ){
+            long temp = x;
+            x = y;
+            y = temp;
+         }
+         y -= x;
+      }
+      return x << shift;
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to multiply the value of a BrobIntk passed as argument to this BrobInt
-   *  @param  gint         BrobInt to multiply by this
-   *  @return BrobInt that is the product of the value of this BrobInt and the one passed in
+   *  Method to form x * a + y * b for two magnitudes and small signed factors, in one pass
+   *  @param  x  factor for a; |x| below LEHMER_COFACTOR_LIMIT
+   *  @param  a  limbs of the first magnitude
+   *  @param  y  factor for b; |y| below LEHMER_COFACTOR_LIMIT
+   *  @param  b  limbs of the second magnitude, no longer than a
+   *  @return int array holding the limbs of the result, which the caller knows is not negative
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public BrobInt multiply( BrobInt gint ) {
-      BrobInt resultBrobInt = new BrobInt( "0" );
-      BrobInt a;
-      BrobInt b;
-      if ( internalValue.length() >= gint.getInternalValue().length() ){
-         a = new BrobInt( internalValue );
-         b = new BrobInt( gint.getInternalValue() );
-      } else {
-         a = new BrobInt( gint.getInternalValue() );
-         b = new BrobInt( internalValue );
+   private static int[] combineLimbs( long x, int[] a, long y, int[] b ) {
+      int[] result = new int[a.length + 1];
+      long carry = 0;
+      for ( int i = 0; i < a.length; i++ ){
+         long t = (x * a[i]) + ((i < b.length) ? y * b[i] : 0) + carry;
+         carry = Math.floorDiv( t, BASE );
+         result[i] = (int)(t - (carry * BASE));
       }
-      int numberOfInts = (b.getInternalValue().length()/9) + 1;
-      int[] intArray = new int[numberOfInts];
-      if ( b.getInternalValue().length() < 10 ){
-         intArray[0] = Integer.parseInt(b.getInternalValue());
-      } else {
-         String tempString = "";
-         for ( int j = 0; j < numberOfInts; j++ ){
-            if ( j + 9 < b.getInternalValue().length() ){
-               tempString = b.getInternalValue().substring(j*9, (j*9) + 9);
-               intArray[j] = Integer.parseInt(tempString);
-            } else {
-               tempString = b.getInternalValue().substring(j*9, (j*9) + (b.getInternalValue().length() - j) );
-               intArray[j] = Integer.parseInt(tempString);
-            }
+      result[a.length] = (int)carry;
+      return trimLimbs( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply this BrobInt by a power of two, like BigInteger.shiftLeft()
+   *  @param  n  the power of two; a negative one shifts right instead
+   *  @return BrobInt that is this BrobInt times 2^n
+   *  @throws ArithmeticException if the result would be longer than MAX_NTT_LENGTH limbs
+   *  NOTE: the limbs are decimal, so no bits move; short shifts are passes of multiplying by up to
+   *        2^32 at a time, and longer ones multiply by 2^n built with pow().  The result's length is
+   *        checked before any of that, so a hopeless shift fails at once, as BigInteger's does
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt shiftLeft( int n ) {
+      if ( n < 0 ){
+         if ( n == Integer.MIN_VALUE ){
+            throw new ArithmeticException( "\n         Sorry, the shift distance is too large." );
          }
+         return shiftRight( -n );
       }
-      for ( int i = 0; i < numberOfInts; i++ ){
-         for (int j = 0; j < intArray[i]; j++ ){
-            //System.out.println("resultBrobInt = " + resultBrobInt);
-            resultBrobInt = resultBrobInt.addInt( new BrobInt(a.getInternalValue()) );
+      if ( n == 0 || limbs.length == 0 ){
+         return this;
+      }
+      if ( limbs.length + (n / LOG2_BASE) > MAX_NTT_LENGTH ){
+         throw new ArithmeticException( "\n         Sorry, the shift distance is too large." );
+      }
+      if ( n > WORD_BITS * SHIFT_PASS_LIMIT ){
+         return multiply( TWO.pow( n ) );
+      }
+      int[] result = limbs;
+      while ( n > 0 ){
+         int step = Math.min( n, WORD_BITS );
+         result = shiftLimbsLeft( result, step );
+         n -= step;
+      }
+      return new BrobInt( result, sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide this BrobInt by a power of two, rounding down, like BigInteger.shiftRight()
+   *  @param  n  the power of two; a negative one shifts left instead
+   *  @return BrobInt that is the floor of this BrobInt over 2^n, so negative values round away from
+   *                  zero the way an arithmetic shift of two's complement bits would
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt shiftRight( int n ) {
+      if ( n < 0 ){
+         if ( n == Integer.MIN_VALUE ){
+            throw new ArithmeticException( "\n         Sorry, the shift distance is too large." );
          }
+         return shiftLeft( -n );
       }
-      if ( (sign == 1 && gint.getSign() == 0) || (sign == 0 && gint.getSign() == 1) ){
-         resultBrobInt.setSign(1);
+      if ( n == 0 || limbs.length == 0 ){
+         return this;
+      }
+      int[]   result;
+      boolean inexact = false;
+      if ( n >= bitLengthOf( limbs ) ){
+         result  = NO_LIMBS;
+         inexact = true;
+      } else if ( n > WORD_BITS * SHIFT_PASS_LIMIT ){
+         int[][] qr = divRemLimbs( limbs, TWO.pow( n ).limbs );
+         result  = qr[0];
+         inexact = qr[1].length > 0;
       } else {
-         resultBrobInt.setSign(0);
+         result = limbs.clone();
+         while ( n > 0 ){
+            int step = Math.min( n, WORD_BITS );
+            inexact |= shiftLimbsRight( result, result.length, step ) != 0;
+            result = trimLimbs( result );
+            n -= step;
+         }
       }
-      return resultBrobInt;
+      if ( sign == 1 && inexact ){
+         result = addLimbs( result, ONE.limbs );
+      }
+      return new BrobInt( result, sign );
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to divide the value of this BrobIntk by the BrobInt passed as argument
-   *  @param  gint         BrobInt to divide this by
-   *  @return BrobInt that is the dividend of this BrobInt divided by the one passed in
+   *  Method to test one bit of the two's complement form of this BrobInt, like BigInteger.testBit()
+   *  @param  n  index of the bit, zero being the lowest
+   *  @return boolean  that is true if the bit is set
+   *  @throws ArithmeticException if the index is negative
+   *  NOTE: the first call converts the limbs to two's complement words with toWords(), the same cost
+   *        as one bitwise operation, and keeps them; every call after that is one array lookup
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public BrobInt divide( BrobInt gint ) {
-      BrobInt resultBrobInt = new BrobInt( "0" );
-      BrobInt a = new BrobInt( "0" );
-      String aString = a.getInternalValue();
-      int divSign = 0;
-      double multiplier = 0;
-      if ( sign == 1 && gint.getSign() == 0 ){
-         divSign = 1;
-      }
-      if ( sign == 0 && gint.getSign() == 1 ){
-         divSign = 2;
-         gint.setSign(0);
-      }
-      if ( sign == 1 && gint.getSign() == 1 ){
-         divSign = 3;
-         sign = 0;
-         gint.setSign(0);
-      }
-      while ( internalValue.length() > aString.length() || (internalValue.length() == aString.length() && compareTo(a) >= 0) ){
-            a = a.addInt(gint);
-            aString = a.getInternalValue();
-            resultBrobInt = resultBrobInt.addInt(ONE);
-      }
-      if ( divSign == 1 || divSign == 2 || divSign == 3 ){
-         if ( divSign == 2 || divSign == 3 ){
-            gint.setSign(1);
-            if ( divSign == 3 ){
-               sign = 1;
-               return resultBrobInt.subtractByte(ONE);
+   public boolean testBit( int n ) {
+      if ( n < 0 ){
+         throw new ArithmeticException( "\n         Sorry, the bit index can't be negative." );
+      }
+      int[] w = words;
+      if ( w == null ){
+         w = toWords( (sign == 1) ? subtractLimbs( limbs, ONE.limbs ) : limbs );
+         if ( sign == 1 ){
+            for ( int i = 0; i < w.length; i++ ){
+               w[i] = ~w[i];
             }
          }
-         StringBuilder result = new StringBuilder( '-' + resultBrobInt.subtractByte(ONE).toString() );
-         return new BrobInt(result.toString());
+         words = w;
       }
-      return resultBrobInt.subtractByte(ONE);
+      int index = n >>> 5;
+      if ( index >= w.length ){
+         return sign == 1;
+      }
+      return ((w[index] >>> (n & 31)) & 1) == 1;
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to get the remainder of division of this BrobInt by the one passed as argument
-   *  @param  gint         BrobInt to divide this one by
-   *  @return BrobInt that is the remainder of division of this BrobInt by the one passed in
+   *  Method to count the bits of the two's complement form of this BrobInt, not counting the sign
+   *   bit, like BigInteger.bitLength()
+   *  @return int  the number of bits; zero for zero and for minus one
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public BrobInt remainder( BrobInt gint ) {
-      StringBuilder sb = new StringBuilder();
-      StringBuilder resultSB = new StringBuilder();
-      String resultString = subtractByte(divide(gint).multiply(gint)).toString();
-      BrobInt resultBrobInt = new BrobInt( resultString );
-      if ( resultString.charAt(0) == '-' ){
-         for ( int i = 1; i < resultString.length(); i++ ){
-            sb.append( resultString.charAt(i) );
-         }
-         return new BrobInt( resultSB.append( '-' + sb.toString().replaceFirst("^0+(?!$)", "") ).toString() );
-      }
-      return resultBrobInt;
+   public int bitLength() {
+      return bitLengthOf( (sign == 1) ? subtractLimbs( limbs, ONE.limbs ) : limbs );
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to compare a BrobInt passed as argument to this BrobInt
-   *  @param  gint  BrobInt to add to this
-   *  @return int   that is one of neg/0/pos if this BrobInt precedes/equals/follows the argument
-   *  NOTE: this method performs a lexicographical comparison using the java String "compareTo()" method
-   *        THAT was easy.....
+   *  Method to find the bitwise AND of this BrobInt and another, like BigInteger.and()
+   *  @param  gint  the other BrobInt
+   *  @return BrobInt whose two's complement bits are set where both operands' are
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public int compareTo( BrobInt gint ) {
-      return (internalValue.compareTo( gint.toString() ));
+   public BrobInt and( BrobInt gint ) {
+      return bitwise( this, gint, (x, y) -> x & y );
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to check if a BrobInt passed as argument is equal to this BrobInt
-   *  @param  gint     BrobInt to compare to this
-   *  @return boolean  that is true if they are equal and false otherwise
-   *  NOTE: this method performs a similar lexicographical comparison as the "compareTo()" method above
-   *        also using the java String "equals()" method -- THAT was easy, too..........
+   *  Method to find the bitwise OR of this BrobInt and another, like BigInteger.or()
+   *  @param  gint  the other BrobInt
+   *  @return BrobInt whose two's complement bits are set where either operand's are
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public boolean equals( BrobInt gint ) {
-      return (internalValue.equals( gint.toString() ));
+   public BrobInt or( BrobInt gint ) {
+      return bitwise( this, gint, (x, y) -> x | y );
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to return a BrobInt given a long value passed as argument
-   *  @param  value         long type number to make into a BrobInt
-   *  @return BrobInt  which is the BrobInt representation of the long
+   *  Method to find the bitwise exclusive OR of this BrobInt and another, like BigInteger.xor()
+   *  @param  gint  the other BrobInt
+   *  @return BrobInt whose two's complement bits are set where exactly one operand's are
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt xor( BrobInt gint ) {
+      return bitwise( this, gint, (x, y) -> x ^ y );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to flip every bit of the two's complement form of this BrobInt, like BigInteger.not()
+   *  @return BrobInt that is -this - 1
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt not() {
+      return negate().subtractInt( ONE );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to apply a bitwise operation to the two's complement forms of two BrobInts
+   *  @param  x   the first operand
+   *  @param  y   the second operand
+   *  @param  op  the operation, applied to 32 bits of each at a time
+   *  @return BrobInt that the resulting bits stand for
+   *  NOTE: a negative value's bits are the complement of its magnitude less one, with ones carried on
+   *        forever above the top; the operation applied to those fill bits gives the sign of the
+   *        result, and a negative result is turned back into a magnitude the same way
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public static BrobInt valueOf( long value ) throws NumberFormatException {
-      BrobInt gi = null;
-      try {
-         gi = new BrobInt( new Long( value ).toString() );
+   private static BrobInt bitwise( BrobInt x, BrobInt y, IntBinaryOperator op ) {
+      int[] xWords = toWords( (x.sign == 1) ? subtractLimbs( x.limbs, ONE.limbs ) : x.limbs );
+      int[] yWords = toWords( (y.sign == 1) ? subtractLimbs( y.limbs, ONE.limbs ) : y.limbs );
+      int   xFill  = -x.sign;
+      int   yFill  = -y.sign;
+      int   fill   = op.applyAsInt( xFill, yFill );
+      int[] result = new int[Math.max( xWords.length, yWords.length )];
+      for ( int i = 0; i < result.length; i++ ){
+         int xBits = ((i < xWords.length) ? xWords[i] : 0) ^ xFill;
+         int yBits = ((i < yWords.length) ? yWords[i] : 0) ^ yFill;
+         result[i] = op.applyAsInt( xBits, yBits ) ^ fill;
       }
-      catch( NumberFormatException nfe ) {
-         System.out.println( "\n  Sorry, the value must be numeric of type long." );
+      if ( fill == 0 ){
+         return new BrobInt( fromWords( result ), 0 );
       }
-      return gi;
+      return new BrobInt( addLimbs( fromWords( result ), ONE.limbs ), 1 );
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-   *  Method to return a String representation of this BrobInt
-   *  @return String  which is the String representation of this BrobInt
+   *  Method to count the bits of a magnitude
+   *  @param  a  limbs of the magnitude
+   *  @return int  the position of the top set bit plus one; zero for zero
+   *  NOTE: the top three limbs give the base two logarithm to far better than a millionth of a bit,
+   *        so only a value within that of a power of two needs the exact check against 2^k
    *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-   public String toString() {
-      StringBuilder sb2 = new StringBuilder();
-      String intVersionOutput = "";
-      for( int i = 0; i < intVersion.length; i++ ) {
-         intVersionOutput = intVersionOutput.concat( Integer.toString( intVersion[i] ) );
+   private static int bitLengthOf( int[] a ) {
+      int n = a.length;
+      if ( n <= 2 ){
+         return 64 - Long.numberOfLeadingZeros( toLong( a, 0 ) );
       }
-      intVersionOutput = new String( new StringBuffer( intVersionOutput ).reverse() );
-      if ( sign == 1 ) {
-         sb2.append('-' + internalValue);
-         return sb2.toString();
-      } else {
-         return internalValue;
+      double top  = (((double)a[n - 1] * BASE) + a[n - 2]) * BASE + a[n - 3];
+      double log2 = (Math.log( top ) / Math.log( 2.0 )) + ((n - 3) * LOG2_BASE);
+      long   near = Math.round( log2 );
+      if ( Math.abs( log2 - near ) > 1.0e-5 ){
+         return (int)Math.floor( log2 ) + 1;
+      }
+      return (compareLimbs( a, TWO.pow( (int)near ).limbs ) >= 0) ? (int)near + 1 : (int)near;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply a magnitude by a power of two up to 2^32 in one pass
+   *  @param  a     limbs of the magnitude
+   *  @param  bits  the power of two, from 1 to 32
+   *  @return int array holding the limbs of the product, with leading zero limbs dropped
+   *  NOTE: a limb is below 2^30, so a limb shifted by 32 plus the carry still fits in a long, and the
+   *        final carry can spill into two new limbs
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] shiftLimbsLeft( int[] a, int bits ) {
+      int[] result = new int[a.length + 2];
+      long carry = 0;
+      for ( int i = 0; i < a.length; i++ ){
+         long t = ((long)a[i] << bits) + carry;
+         carry = t / BASE;
+         result[i] = (int)(t - (carry * BASE));
+      }
+      result[a.length]     = (int)(carry % BASE);
+      result[a.length + 1] = (int)(carry / BASE);
+      return trimLimbs( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide a magnitude by a power of two up to 2^32 in place, in one pass from the top
+   *  @param  a       limbs of the magnitude, which are overwritten by the quotient
+   *  @param  length  number of limbs of a in use
+   *  @param  bits    the power of two, from 1 to 32
+   *  @return long  the remainder, below 2^bits
+   *  NOTE: a remainder below 2^32 times the base plus a limb still fits in a long, and the shift
+   *        stands in for the hardware divide that divideLimbsBySmall() needs
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static long shiftLimbsRight( int[] a, int length, int bits ) {
+      long rem  = 0;
+      long mask = (1L << bits) - 1;
+      for ( int i = length - 1; i >= 0; i-- ){
+         long current = (rem * BASE) + a[i];
+         a[i] = (int)(current >>> bits);
+         rem  = current & mask;
+      }
+      return rem;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to rewrite a magnitude as 32-bit words, the lowest first
+   *  @param  a  limbs of the magnitude
+   *  @return int array of words, read as unsigned, which may have leading zero words
+   *  NOTE: one pass per word is quadratic, but with a shift where a division would be it stays ahead
+   *        of splitting by the powers 2^(32 * 2^j) until values are long enough that divRemNewton()
+   *        does the splitting
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] toWords( int[] a ) {
+      if ( a.length == 0 ){
+         return NO_LIMBS;
+      }
+      int level = wordLevel( (int)(a.length * LOG2_BASE / WORD_BITS) + 2 );
+      int[] words = new int[1 << (level + 1)];
+      toWordsInto( a, words, 0, level, (a.length < SPLIT_LIMBS) ? null : wordPowers( level ) );
+      return words;
+   }
+
+  /**
+   *  Writes a magnitude of at most 2^(level + 1) words into words from offset up, splitting it by
+   *   powers[level] while it is long
+   */
+   private static void toWordsInto( int[] a, int[] words, int offset, int level, int[][] powers ) {
+      if ( level < 0 || a.length < SPLIT_LIMBS ){
+         int[] rest   = a.clone();
+         int   length = rest.length;
+         for ( int i = offset; length > 0; i++ ){
+            words[i] = (int)shiftLimbsRight( rest, length, WORD_BITS );
+            while ( length > 0 && rest[length - 1] == 0 ){
+               length--;
+            }
+         }
+         return;
+      }
+      int[][] qr = divRemLimbs( a, powers[level] );
+      toWordsInto( qr[1], words, offset, level - 1, powers );
+      toWordsInto( qr[0], words, offset + (1 << level), level - 1, powers );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to turn 32-bit words, the lowest first, back into a magnitude
+   *  @param  words  the words, read as unsigned
+   *  @return int array holding the limbs of the value, with leading zero limbs dropped
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] fromWords( int[] words ) {
+      int level = wordLevel( words.length );
+      return fromWordsRange( words, 0, level, (words.length <= CONVERT_WORDS) ? null : wordPowers( level ) );
+   }
+
+  /**
+   *  Builds the magnitude of the 2^(level + 1) words from offset up (those past the end count as
+   *   zero), joining the halves with powers[level] while they are long
+   */
+   private static int[] fromWordsRange( int[] words, int offset, int level, int[][] powers ) {
+      int end = Math.min( words.length, offset + (1 << (level + 1)) );
+      if ( level < 0 || end - offset <= CONVERT_WORDS ){
+         int[] result = new int[(int)((end - offset) * WORD_BITS / LOG2_BASE) + 2];
+         int   length = 0;
+         for ( int i = end - 1; i >= offset; i-- ){
+            long carry = words[i] & WORD_MASK;
+            for ( int j = 0; j < length; j++ ){
+               long t = ((long)result[j] << WORD_BITS) + carry;
+               carry = t / BASE;
+               result[j] = (int)(t - (carry * BASE));
+            }
+            for ( ; carry != 0; carry /= BASE ){
+               result[length++] = (int)(carry % BASE);
+            }
+         }
+         return trimLimbs( result );
+      }
+      int[] low  = fromWordsRange( words, offset, level - 1, powers );
+      int[] high = (offset + (1 << level) < end) ? fromWordsRange( words, offset + (1 << level), level - 1, powers ) : NO_LIMBS;
+      return (high.length == 0) ? low : addLimbs( multiplyInPool( high, powers[level] ), low );
+   }
+
+  /**
+   *  Returns the smallest level whose 2^(level + 1) words cover count words
+   */
+   private static int wordLevel( int count ) {
+      return (count <= 2) ? 0 : 31 - Integer.numberOfLeadingZeros( count - 1 );
+   }
+
+  /**
+   *  Returns the limbs of 2^(32 * 2^j) for each j up to level, each the square of the one before
+   */
+   private static int[][] wordPowers( int level ) {
+      int[][] powers = new int[level + 1][];
+      powers[0] = new int[] { (int)((WORD_MASK + 1) % BASE), (int)((WORD_MASK + 1) / BASE) };
+      for ( int j = 1; j <= level; j++ ){
+         powers[j] = multiplyInPool( powers[j - 1], powers[j - 1] );
+      }
+      return powers;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply two magnitudes on the worker pool when parallel multiplication is on and the
+   *   operands are long enough, or on the calling thread otherwise
+   *  @param  a  limbs of the first magnitude
+   *  @param  b  limbs of the second magnitude
+   *  @return int array holding the limbs of the product, with leading zero limbs dropped
+   *  NOTE: the work has to start inside the pool so that the sub-products forked further down by
+   *        runAll() land on its threads rather than on the common pool
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] multiplyInPool( int[] a, int[] b ) {
+      ForkJoinPool pool = workers;
+      if ( pool == null || Math.min( a.length, b.length ) < parallelThreshold || ForkJoinTask.getPool() == pool ){
+         return multiplyLimbs( a, b );
+      }
+      return pool.invoke( ForkJoinTask.adapt( () -> multiplyLimbs( a, b ) ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply two magnitudes, picking the algorithm from the operand lengths
+   *  @param  a  limbs of the first magnitude
+   *  @param  b  limbs of the second magnitude
+   *  @return int array holding the limbs of the product, with leading zero limbs dropped
+   *  NOTE: short operands go limb by limb, mid-sized ones use Karatsuba, then Toom-Cook-3, and the
+   *        longest ones a number-theoretic transform; when one operand is at least twice as long as
+   *        the other it is cut into pieces the size of the shorter one so the split algorithms always
+   *        see balanced halves.  Products too long for the transform go to Toom-Cook-3, whose
+   *        third-size pieces come back around to the transform.  Passing the same array as both
+   *        operands marks a square, which every tier keeps as squares all the way down
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] multiplyLimbs( int[] a, int[] b ) {
+      if ( a.length < b.length ){
+         int[] temp = a;
+         a = b;
+         b = temp;
+      }
+      if ( b.length == 0 ){
+         return NO_LIMBS;
+      }
+      if ( b.length < karatsubaThreshold ){
+         return (a == b) ? squareSchoolbook( a ) : multiplySchoolbook( a, b );
+      }
+      if ( b.length >= nttThreshold && a.length + b.length <= MAX_NTT_LENGTH ){
+         return multiplyNtt( a, b );
+      }
+      if ( a.length >= 2 * b.length ){
+         return multiplyUnbalanced( a, b );
+      }
+      if ( b.length < toomCookThreshold ){
+         return multiplyKaratsuba( a, b );
+      }
+      return multiplyToomCook3( a, b );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply two magnitudes limb by limb, the way it is done by hand
+   *  @param  a  limbs of the first magnitude
+   *  @param  b  limbs of the second magnitude
+   *  @return int array holding the limbs of the product, with leading zero limbs dropped
+   *  NOTE: each limb product fits in a long, and so does the product plus the running column value
+   *        and the carry, so a single 64-bit accumulator is enough for every step
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] multiplySchoolbook( int[] a, int[] b ) {
+      int[] result = new int[a.length + b.length];
+      for ( int i = 0; i < a.length; i++ ){
+         long ai = a[i];
+         if ( ai == 0 ){
+            continue;
+         }
+         long carry = 0;
+         for ( int j = 0; j < b.length; j++ ){
+            long t = (ai * b[j]) + result[i + j] + carry;
+            carry = t / BASE;
+            result[i + j] = (int)(t - (carry * BASE));
+         }
+         result[i + b.length] = (int)carry;
+      }
+      return trimLimbs( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to square a magnitude limb by limb, finding each cross product only once
+   *  @param  a  limbs of the magnitude
+   *  @return int array holding the limbs of the square, with leading zero limbs dropped
+   *  NOTE: the products a[i] * a[j] with i < j are summed once, the total is doubled, and then the
+   *        squares a[i] * a[i] are added on the diagonal; that is about half the limb products of
+   *        multiplySchoolbook( a, a )
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] squareSchoolbook( int[] a ) {
+      int n = a.length;
+      int[] result = new int[2 * n];
+      for ( int i = 0; i < n; i++ ){
+         long ai = a[i];
+         if ( ai == 0 ){
+            continue;
+         }
+         long carry = 0;
+         for ( int j = i + 1; j < n; j++ ){
+            long t = (ai * a[j]) + result[i + j] + carry;
+            carry = t / BASE;
+            result[i + j] = (int)(t - (carry * BASE));
+         }
+         result[i + n] = (int)carry;
+      }
+      long carry = 0;
+      for ( int i = 0; i < n; i++ ){
+         long square = (long)a[i] * a[i];
+         long high   = square / BASE;
+         long t = (2L * result[2 * i]) + (square - (high * BASE)) + carry;
+         carry = t / BASE;
+         result[2 * i] = (int)(t - (carry * BASE));
+         t = (2L * result[(2 * i) + 1]) + high + carry;
+         carry = t / BASE;
+         result[(2 * i) + 1] = (int)(t - (carry * BASE));
+      }
+      return trimLimbs( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply a long magnitude by one at most half its length, one slice at a time
+   *  @param  a  limbs of the longer magnitude
+   *  @param  b  limbs of the shorter magnitude
+   *  @return int array holding the limbs of the product, with leading zero limbs dropped
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] multiplyUnbalanced( int[] a, int[] b ) {
+      int slices = (a.length + b.length - 1) / b.length;
+      int[][] left  = new int[slices][];
+      int[][] right = new int[slices][];
+      for ( int i = 0; i < slices; i++ ){
+         left[i]  = sliceLimbs( a, i * b.length, (i + 1) * b.length );
+         right[i] = b;
+      }
+      int[][] products = multiplyEach( left, right );
+      int[] result = new int[a.length + b.length];
+      for ( int i = 0; i < slices; i++ ){
+         addLimbsInto( result, products[i], i * b.length );
+      }
+      return trimLimbs( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply two magnitudes with Karatsuba's method
+   *  @param  a  limbs of the first magnitude
+   *  @param  b  limbs of the second magnitude
+   *  @return int array holding the limbs of the product, with leading zero limbs dropped
+   *  NOTE: splitting each operand into high and low halves, the middle term is found from a single
+   *        product of the half sums, so it takes three half-size products instead of four
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] multiplyKaratsuba( int[] a, int[] b ) {
+      int half = (Math.max( a.length, b.length ) + 1) / 2;
+      int[] aLow  = sliceLimbs( a, 0, half );
+      int[] aHigh = sliceLimbs( a, half, a.length );
+      int[] aSum  = addLimbs( aLow, aHigh );
+      int[] bLow  = (a == b) ? aLow  : sliceLimbs( b, 0, half );
+      int[] bHigh = (a == b) ? aHigh : sliceLimbs( b, half, b.length );
+      int[] bSum  = (a == b) ? aSum  : addLimbs( bLow, bHigh );
+
+      int[][] products = multiplyEach( new int[][] { aLow, aHigh, aSum }, new int[][] { bLow, bHigh, bSum } );
+      int[] low    = products[0];
+      int[] high   = products[1];
+      int[] middle = subtractLimbs( subtractLimbs( products[2], low ), high );
+
+      int[] result = new int[a.length + b.length];
+      addLimbsInto( result, low, 0 );
+      addLimbsInto( result, middle, half );
+      addLimbsInto( result, high, 2 * half );
+      return trimLimbs( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply two magnitudes with the Toom-Cook-3 method
+   *  @param  a  limbs of the first magnitude
+   *  @param  b  limbs of the second magnitude
+   *  @return int array holding the limbs of the product, with leading zero limbs dropped
+   *  NOTE: each operand is cut into three pieces and treated as a quadratic; the two quadratics are
+   *        evaluated at 0, 1, -1, 2 and infinity, multiplied pointwise (five third-size products
+   *        instead of nine), and the product's five coefficients are interpolated back out.  The
+   *        intermediate values can go negative, so this works on signed BrobInts; the coefficients
+   *        themselves never are, since every piece is non-negative.  Squares evaluate once and
+   *        square pointwise
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] multiplyToomCook3( int[] a, int[] b ) {
+      int k = (Math.max( a.length, b.length ) + 2) / 3;
+      BrobInt[] left  = evaluateToomCook3( a, k );
+      BrobInt[] right = (a == b) ? left : evaluateToomCook3( b, k );
+      BrobInt[] v = multiplyEach( left, right );
+      BrobInt v0   = v[0];
+      BrobInt vm1  = v[1];
+      BrobInt v1   = v[2];
+      BrobInt v2   = v[3];
+      BrobInt vinf = v[4];
+
+      BrobInt t2  = divideExact( v2.subtractInt( vm1 ), 3 );
+      BrobInt tm1 = divideExact( v1.subtractInt( vm1 ), 2 );
+      BrobInt t1  = v1.subtractInt( v0 );
+      t2  = divideExact( t2.subtractInt( t1 ), 2 );
+      t1  = t1.subtractInt( tm1 ).subtractInt( vinf );
+      t2  = t2.subtractInt( vinf.addInt( vinf ) );
+      tm1 = tm1.subtractInt( t2 );
+
+      int[] result = new int[a.length + b.length];
+      addLimbsInto( result, v0.limbs, 0 );
+      addLimbsInto( result, tm1.limbs, k );
+      addLimbsInto( result, t1.limbs, 2 * k );
+      addLimbsInto( result, t2.limbs, 3 * k );
+      addLimbsInto( result, vinf.limbs, 4 * k );
+      return trimLimbs( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to cut a magnitude into three pieces of k limbs and evaluate the quadratic they make at
+   *   0, -1, 1, 2 and infinity, for Toom-Cook-3
+   *  @param  a  limbs of the magnitude
+   *  @param  k  piece length in limbs
+   *  @return BrobInt array of the five values, in that order
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt[] evaluateToomCook3( int[] a, int k ) {
+      BrobInt a0 = new BrobInt( sliceLimbs( a, 0, k ), 0 );
+      BrobInt a1 = new BrobInt( sliceLimbs( a, k, 2 * k ), 0 );
+      BrobInt a2 = new BrobInt( sliceLimbs( a, 2 * k, a.length ), 0 );
+      BrobInt even = a2.addInt( a0 );
+      BrobInt one  = even.addInt( a1 );
+      BrobInt two  = one.addInt( a2 );
+      return new BrobInt[] { a0, even.subtractInt( a1 ), one, two.addInt( two ).subtractInt( a0 ), a2 };
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply two magnitudes with a number-theoretic transform
+   *  @param  a  limbs of the first magnitude
+   *  @param  b  limbs of the second magnitude
+   *  @return int array holding the limbs of the product, with leading zero limbs dropped
+   *  NOTE: the limbs are convolved modulo each of the three NTT primes, then every column is put
+   *        back together with the Chinese remainder theorem (Garner's form) and the carries are
+   *        pushed up in base 10^9.  A column can reach about 6 * 10^25, past a long, so the top
+   *        term is split at 10^9 to keep every partial sum under 10^18.  Squaring transforms once.
+   *        The three primes are independent, so in parallel mode they are convolved side by side
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] multiplyNtt( int[] a, int[] b ) {
+      int n = 1;
+      while ( n < a.length + b.length ){
+         n <<= 1;
+      }
+      int[][] residues = new int[NTT_PRIMES.length][];
+      Runnable[] jobs = new Runnable[NTT_PRIMES.length];
+      for ( int k = 0; k < NTT_PRIMES.length; k++ ){
+         int prime = k;
+         int size  = n;
+         jobs[k] = () -> residues[prime] = convolveModPrime( a, b, size, NTT_PRIMES[prime], NTT_ROOTS[prime] );
+      }
+      runAll( b.length, jobs );
+
+      long p0 = NTT_PRIMES[0];
+      long p1 = NTT_PRIMES[1];
+      long p2 = NTT_PRIMES[2];
+      long p0InvMod1   = powMod( p0 % p1, p1 - 2, p1 );
+      long p01InvMod2  = powMod( (p0 * p1) % p2, p2 - 2, p2 );
+      long p01         = p0 * p1;
+      long p01High     = p01 / BASE;
+      long p01Low      = p01 % BASE;
+
+      int[] result = new int[a.length + b.length];
+      long carry = 0;
+      for ( int i = 0; i < result.length; i++ ){
+         long r0 = residues[0][i];
+         long k1 = (((residues[1][i] - r0) % p1 + p1) * p0InvMod1) % p1;
+         long x01 = r0 + (p0 * k1);
+         long k2 = (((residues[2][i] - (x01 % p2)) % p2 + p2) * p01InvMod2) % p2;
+         long low = x01 + (k2 * p01Low) + (carry % BASE);
+         result[i] = (int)(low % BASE);
+         carry = (low / BASE) + (k2 * p01High) + (carry / BASE);
+      }
+      return trimLimbs( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find the cyclic convolution of two magnitudes modulo one prime
+   *  @param  a      limbs of the first magnitude
+   *  @param  b      limbs of the second magnitude
+   *  @param  n      transform length; a power of two at least a.length + b.length
+   *  @param  prime  the modulus, with n dividing prime - 1
+   *  @param  root   a primitive root of the prime
+   *  @return int array of n residues; entry i is column i of the product modulo the prime
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] convolveModPrime( int[] a, int[] b, int n, int prime, int root ) {
+      int negInverse = montgomeryNegInverse( prime );
+      long rSquared  = ((1L << 32) % prime) * ((1L << 32) % prime) % prime;
+      long omega     = powMod( root, (prime - 1) / n, prime );
+      int[] forward  = twiddleTable( omega, n, prime, negInverse, rSquared );
+      int[] inverse  = twiddleTable( powMod( omega, prime - 2, prime ), n, prime, negInverse, rSquared );
+
+      int[] fa = new int[n];
+      for ( int i = 0; i < a.length; i++ ){
+         fa[i] = a[i] % prime;
+      }
+      int[] fb = fa;
+      if ( a == b ){
+         transform( fa, forward, prime, negInverse );
+      } else {
+         fb = new int[n];
+         for ( int i = 0; i < b.length; i++ ){
+            fb[i] = b[i] % prime;
+         }
+         int[] left  = fa;
+         int[] right = fb;
+         runAll( Math.min( a.length, b.length ), () -> transform( left, forward, prime, negInverse ),
+                                                 () -> transform( right, forward, prime, negInverse ) );
+      }
+      for ( int i = 0; i < n; i++ ){
+         fa[i] = montgomery( fa[i], fb[i], prime, negInverse );
+      }
+      transform( fa, inverse, prime, negInverse );
+
+     // the pointwise products picked up a factor of R^-1; scale by n^-1 * R^2 in Montgomery form to
+     //  clear it along with the factor of n from the inverse transform
+      int scale = (int)((powMod( n, prime - 2, prime ) * rSquared) % prime);
+      for ( int i = 0; i < n; i++ ){
+         fa[i] = montgomery( fa[i], scale, prime, negInverse );
+      }
+      return fa;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run an in-place iterative radix-2 transform
+   *  @param  f           residues to transform, in natural order; left in natural order
+   *  @param  twiddles    powers of the n-th root of unity in Montgomery form, from twiddleTable()
+   *  @param  prime       the modulus
+   *  @param  negInverse  -prime^-1 modulo 2^32
+   *  NOTE: the data stays in ordinary form; multiplying by a Montgomery-form twiddle cancels the R^-1
+   *        from the Montgomery product, so no conversion pass is needed
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static void transform( int[] f, int[] twiddles, int prime, int negInverse ) {
+      int n = f.length;
+      for ( int i = 1, j = 0; i < n; i++ ){
+         int bit = n >> 1;
+         for ( ; (j & bit) != 0; bit >>= 1 ){
+            j ^= bit;
+         }
+         j ^= bit;
+         if ( i < j ){
+            int temp = f[i];
+            f[i] = f[j];
+            f[j] = temp;
+         }
+      }
+      for ( int length = 2; length <= n; length <<= 1 ){
+         int half   = length >> 1;
+         int stride = n / length;
+         for ( int start = 0; start < n; start += length ){
+            for ( int k = 0; k < half; k++ ){
+               int u = f[start + k];
+               int v = montgomery( f[start + k + half], twiddles[k * stride], prime, negInverse );
+               int sum  = u + v;
+               int diff = u - v;
+               f[start + k]        = (sum >= prime) ? sum - prime : sum;
+               f[start + k + half] = (diff < 0) ? diff + prime : diff;
+            }
+         }
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to build the table of powers of a root of unity used by transform()
+   *  @param  omega       an n-th root of unity modulo the prime, in ordinary form
+   *  @param  n           transform length
+   *  @param  prime       the modulus
+   *  @param  negInverse  -prime^-1 modulo 2^32
+   *  @param  rSquared    2^64 modulo the prime, used to move omega into Montgomery form
+   *  @return int array holding omega^0 through omega^(n/2 - 1), in Montgomery form
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] twiddleTable( long omega, int n, int prime, int negInverse, long rSquared ) {
+      int[] table = new int[Math.max( 1, n / 2 )];
+      int step = montgomery( (int)omega, (int)rSquared, prime, negInverse );
+      table[0] = montgomery( 1, (int)rSquared, prime, negInverse );
+      for ( int k = 1; k < table.length; k++ ){
+         table[k] = montgomery( table[k - 1], step, prime, negInverse );
+      }
+      return table;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find x * y * 2^-32 modulo a prime below 2^30 without a division
+   *  @param  x           first factor, less than the prime
+   *  @param  y           second factor, less than the prime
+   *  @param  prime       the modulus
+   *  @param  negInverse  -prime^-1 modulo 2^32
+   *  @return int  the Montgomery product, less than the prime
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int montgomery( int x, int y, int prime, int negInverse ) {
+      long t = (long)x * y;
+      long m = ((int)t * negInverse) & 0xFFFFFFFFL;
+      int  u = (int)((t + (m * prime)) >>> 32);
+      return (u >= prime) ? u - prime : u;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find -prime^-1 modulo 2^32 by Newton iteration, for Montgomery products
+   *  @param  prime  an odd modulus
+   *  @return int  the negated inverse
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int montgomeryNegInverse( int prime ) {
+      int inverse = prime;
+      for ( int i = 0; i < 5; i++ ){
+         inverse *= 2 - (prime * inverse);
+      }
+      return -inverse;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to raise a number to a power modulo a modulus below 2^31, by repeated squaring
+   *  @param  base      number to raise, less than the modulus
+   *  @param  exponent  non-negative power
+   *  @param  modulus   the modulus
+   *  @return long  base^exponent modulo the modulus
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static long powMod( long base, long exponent, long modulus ) {
+      long result = 1;
+      base = base % modulus;
+      while ( exponent > 0 ){
+         if ( (exponent & 1) == 1 ){
+            result = (result * base) % modulus;
+         }
+         base = (base * base) % modulus;
+         exponent >>= 1;
+      }
+      return result;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply two signed values without touching their signs, for use inside Toom-Cook
+   *  @param  x  first factor
+   *  @param  y  second factor
+   *  @return BrobInt that is the product
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt multiplySigned( BrobInt x, BrobInt y ) {
+      return new BrobInt( multiplyLimbs( x.limbs, y.limbs ), x.sign ^ y.sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply several pairs of magnitudes, side by side when runAll() allows it
+   *  @param  left   first factor of each pair
+   *  @param  right  second factor of each pair
+   *  @return int array of products, one per pair, in the same order
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[][] multiplyEach( int[][] left, int[][] right ) {
+      int[][] products = new int[left.length][];
+      Runnable[] jobs = new Runnable[left.length];
+      int shortest = Integer.MAX_VALUE;
+      for ( int i = 0; i < left.length; i++ ){
+         int pair = i;
+         jobs[i] = () -> products[pair] = multiplyLimbs( left[pair], right[pair] );
+         shortest = Math.min( shortest, Math.min( left[i].length, right[i].length ) );
+      }
+      runAll( shortest, jobs );
+      return products;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply several pairs of signed values, side by side when runAll() allows it
+   *  @param  left   first factor of each pair
+   *  @param  right  second factor of each pair
+   *  @return BrobInt array of products, one per pair, in the same order
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt[] multiplyEach( BrobInt[] left, BrobInt[] right ) {
+      BrobInt[] products = new BrobInt[left.length];
+      Runnable[] jobs = new Runnable[left.length];
+      int shortest = Integer.MAX_VALUE;
+      for ( int i = 0; i < left.length; i++ ){
+         int pair = i;
+         jobs[i] = () -> products[pair] = multiplySigned( left[pair], right[pair] );
+         shortest = Math.min( shortest, Math.min( left[i].limbs.length, right[i].limbs.length ) );
+      }
+      runAll( shortest, jobs );
+      return products;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run independent pieces of a multiplication, forking them onto the worker pool when
+   *   the caller is already one of its threads and the pieces are big enough to pay for it
+   *  @param  length  size of the pieces, in limbs of the shorter operand
+   *  @param  jobs    the pieces; each one writes its own result slot
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static void runAll( int length, Runnable... jobs ) {
+      ForkJoinPool pool = workers;
+      if ( pool == null || length < parallelThreshold || ForkJoinTask.getPool() != pool ){
+         for ( Runnable job : jobs ){
+            job.run();
+         }
+         return;
+      }
+      ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[jobs.length];
+      for ( int i = 0; i < jobs.length; i++ ){
+         tasks[i] = ForkJoinTask.adapt( jobs[i] );
+      }
+      ForkJoinTask.invokeAll( tasks );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to let BrobIntBuilder read this value's limbs without copying them
+   *  @return int array of limbs, least significant first; shared, so it must never be written to
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   int[] magnitude() {
+      return limbs;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to freeze the front of a BrobIntBuilder's buffer into a new BrobInt
+   *  @param  a       limb buffer, least significant first
+   *  @param  length  how many limbs of the buffer are in use; the top one is not zero
+   *  @param  sign    "0" for positive, "1" for negative
+   *  @return BrobInt  holding its own copy of those limbs
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   static BrobInt fromLimbs( int[] a, int length, int sign ) {
+      return new BrobInt( (length == 0) ? NO_LIMBS : Arrays.copyOf( a, length ), sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to let BrobIntBuilder multiply two magnitudes with the same algorithms as multiply()
+   *  @param  a  limbs of the first magnitude
+   *  @param  b  limbs of the second magnitude
+   *  @return int array holding the limbs of the product, with leading zero limbs dropped
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   static int[] multiplyMagnitudes( int[] a, int[] b ) {
+      return multiplyInPool( a, b );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to let BrobDecimal multiply by a power of ten without a full multiply
+   *  @param  n  the power of ten; not negative
+   *  @return BrobInt that is this BrobInt times 10^n
+   *  NOTE: the limbs are decimal, so whole groups of nine digits are just moved up; only the last
+   *        n % 9 digits take a pass of multiplying by a single limb
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   BrobInt timesPowerOfTen( int n ) {
+      if ( n == 0 || limbs.length == 0 ){
+         return this;
+      }
+      int[] result = limbs;
+      if ( n % BASE_DIGITS != 0 ){
+         result = trimLimbs( multiplyLimbsBySmall( limbs, POWERS_OF_TEN[n % BASE_DIGITS], limbs.length + 1 ) );
+      }
+      if ( n >= BASE_DIGITS ){
+         result = trimLimbs( shiftLimbsUp( result, n / BASE_DIGITS ) );
+      }
+      return new BrobInt( result, sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to let BrobDecimal divide by a power of ten without a full division
+   *  @param  n  the power of ten; not negative
+   *  @return BrobInt[] holding the quotient, rounded toward zero, and the remainder, both with the
+   *                    sign of this BrobInt, the same as divRem() would give for a divisor of 10^n
+   *  NOTE: whole limbs below n / 9 are the remainder as they stand, and the rest is one pass of
+   *        dividing by a single limb
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   BrobInt[] divRemPowerOfTen( int n ) {
+      int whole = n / BASE_DIGITS;
+      if ( n == 0 || whole >= limbs.length ){
+         return (n == 0) ? new BrobInt[] { this, ZERO } : new BrobInt[] { ZERO, this };
+      }
+      int[] high = sliceLimbs( limbs, whole, limbs.length );
+      int[] low  = Arrays.copyOf( limbs, whole + 1 );
+      low[whole] = 0;
+      if ( n % BASE_DIGITS != 0 ){
+         int[] quotient = new int[high.length];
+         low[whole] = divideLimbsBySmall( high, POWERS_OF_TEN[n % BASE_DIGITS], quotient );
+         high = trimLimbs( quotient );
+      }
+      return new BrobInt[] { new BrobInt( high, sign ), new BrobInt( trimLimbs( low ), sign ) };
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to let BrobDecimal count the zeros at the bottom of this BrobInt's decimal digits
+   *  @return int  how many times ten divides this BrobInt evenly; zero for zero
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   int trailingZeroDigits() {
+      if ( limbs.length == 0 ){
+         return 0;
+      }
+      int whole = 0;
+      while ( limbs[whole] == 0 ){
+         whole++;
+      }
+      int count = whole * BASE_DIGITS;
+      for ( int limb = limbs[whole]; limb % 10 == 0; limb /= 10 ){
+         count++;
+      }
+      return count;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to reduce a magnitude modulo m with Barrett's method
+   *  @param  x   limbs of the value to reduce; less than the base to the power 2 * m.length
+   *  @param  m   limbs of the modulus
+   *  @param  mu  limbs of the base to the power 2 * m.length, divided by m
+   *  @return int array holding x modulo m, with leading zero limbs dropped
+   *  NOTE: the quotient estimate from the top limbs of x times mu is never more than two too small,
+   *        so at most two subtractions of m finish the job
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] barrettReduce( int[] x, int[] m, int[] mu ) {
+      if ( compareLimbs( x, m ) < 0 ){
+         return x;
+      }
+      int[] estimate = multiplyLimbs( sliceLimbs( x, m.length - 1, x.length ), mu );
+      int[] quotient = sliceLimbs( estimate, m.length + 1, estimate.length );
+      int[] r = subtractLimbs( x, multiplyLimbs( quotient, m ) );
+      while ( compareLimbs( r, m ) >= 0 ){
+         r = subtractLimbs( r, m );
+      }
+      return r;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to split a magnitude into binary chunks of EXPONENT_CHUNK_BITS bits each
+   *  @param  a  limbs of the magnitude
+   *  @return int array of chunks, least significant first, with no leading zero chunks
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] exponentChunks( int[] a ) {
+      int[] chunks = new int[((a.length * 30) / EXPONENT_CHUNK_BITS) + 1];
+      int count = 0;
+      int[] rest = a;
+      while ( rest.length > 0 ){
+         int[] quotient = new int[rest.length];
+         chunks[count++] = divideLimbsBySmall( rest, 1 << EXPONENT_CHUNK_BITS, quotient );
+         rest = trimLimbs( quotient );
+      }
+      return Arrays.copyOf( chunks, count );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to read a magnitude of at most two limbs, which is always under 10^18, as a long
+   *  @param  a     limbs of the magnitude
+   *  @param  sign  "0" for positive, "1" for negative
+   *  @return long  the signed value
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static long toLong( int[] a, int sign ) {
+      long value = (a.length == 0) ? 0 : (a.length == 1) ? a[0] : a[0] + ((long)a[1] * BASE);
+      return (sign == 1) ? -value : value;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to make a BrobInt from a long without going through a string, splitting it into limbs
+   *  @param  value  the long to convert
+   *  @return BrobInt  a new BrobInt equal to value
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt fromLong( long value ) {
+      if ( value == Long.MIN_VALUE ){
+         return new BrobInt( Long.toString( value ) );
+      }
+      long magnitude = Math.abs( value );
+      int[] result;
+      if ( magnitude == 0 ){
+         result = NO_LIMBS;
+      } else if ( magnitude < BASE ){
+         result = new int[] { (int)magnitude };
+      } else {
+         long high = magnitude / BASE;
+         int  low  = (int)(magnitude - (high * BASE));
+         result = (high < BASE) ? new int[] { low, (int)high }
+                                : new int[] { low, (int)(high % BASE), (int)(high / BASE) };
+      }
+      return new BrobInt( result, (value < 0) ? 1 : 0 );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to fill the valueOf() cache, reusing the named constants ZERO through TEN
+   *  @return BrobInt array where entry i holds the value i - CACHE_LIMIT
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt[] buildCache() {
+      BrobInt[] named = { ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT, NINE, TEN };
+      BrobInt[] cache = new BrobInt[(2 * CACHE_LIMIT) + 1];
+      for ( int i = 0; i < cache.length; i++ ){
+         int value = i - CACHE_LIMIT;
+         cache[i] = (value >= 0 && value < named.length) ? named[value] : fromLong( value );
+      }
+      return cache;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide a signed value by a small divisor that is known to divide it evenly
+   *  @param  x        value to divide
+   *  @param  divisor  small positive divisor
+   *  @return BrobInt that is the quotient
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt divideExact( BrobInt x, int divisor ) {
+      int[] quotient = new int[x.limbs.length];
+      divideLimbsBySmall( x.limbs, divisor, quotient );
+      return new BrobInt( trimLimbs( quotient ), x.sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to copy out a range of limbs as a magnitude of its own
+   *  @param  a      limbs to copy from
+   *  @param  start  index of the first limb to copy
+   *  @param  end    index one past the last limb to copy; clipped to the length of a
+   *  @return int array holding the copied limbs, with leading zero limbs dropped
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] sliceLimbs( int[] a, int start, int end ) {
+      end = Math.min( end, a.length );
+      if ( start >= end ){
+         return NO_LIMBS;
+      }
+      return trimLimbs( Arrays.copyOfRange( a, start, end ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to add a magnitude into a running total in place, starting at a given limb
+   *  @param  target  limbs of the running total; must be long enough to hold the sum
+   *  @param  b       limbs of the magnitude to add
+   *  @param  offset  index of the target limb that lines up with the bottom limb of b
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static void addLimbsInto( int[] target, int[] b, int offset ) {
+      int carry = 0;
+      int i = 0;
+      for ( ; i < b.length; i++ ){
+         int sum = target[offset + i] + b[i] + carry;
+         if ( sum >= BASE ){
+            target[offset + i] = sum - BASE;
+            carry = 1;
+         } else {
+            target[offset + i] = sum;
+            carry = 0;
+         }
+      }
+      for ( i = offset + i; carry == 1; i++ ){
+         if ( target[i] == BASE - 1 ){
+            target[i] = 0;
+         } else {
+            target[i] = target[i] + 1;
+            carry = 0;
+         }
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to set the multiplication crossovers used by multiply(); both are counted in limbs of
+   *   the shorter operand, where one limb is nine decimal digits
+   *  @param  karatsuba  operands at least this long use Karatsuba instead of the limb by limb method
+   *  @param  toomCook   operands at least this long use Toom-Cook-3 instead of Karatsuba
+   *  @throws IllegalArgumentException if a threshold is too small for its method to make progress
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void setMultiplyThresholds( int karatsuba, int toomCook ) {
+      if ( karatsuba < 2 || toomCook < 3 ){
+         throw new IllegalArgumentException( "\n         Sorry, multiply thresholds must be at least 2 and 3." );
+      }
+      karatsubaThreshold = karatsuba;
+      toomCookThreshold  = toomCook;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to set the length at which multiply() switches to the number-theoretic transform
+   *  @param  ntt  operands at least this many limbs long use the transform instead of Toom-Cook-3
+   *  @throws IllegalArgumentException if the threshold is not positive
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void setNttThreshold( int ntt ) {
+      if ( ntt < 1 ){
+         throw new IllegalArgumentException( "\n         Sorry, the NTT threshold must be positive." );
+      }
+      nttThreshold = ntt;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to set the length at which divide() and remainder() switch from long division to
+   *   dividing with a Newton reciprocal; both the divisor and the quotient must be at least this long
+   *  @param  newton  crossover in limbs
+   *  @throws IllegalArgumentException if the threshold is too small for the reciprocal to converge
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void setNewtonThreshold( int newton ) {
+      if ( newton <= RECIPROCAL_BASE ){
+         throw new IllegalArgumentException( "\n         Sorry, the Newton threshold must be more than " + RECIPROCAL_BASE + "." );
+      }
+      newtonThreshold = newton;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to set how many threads multiply() may use; one keeps every multiplication on the calling
+   *   thread, and more hands the independent sub-products of long operands to a fork-join pool
+   *  @param  threads  number of worker threads
+   *  @throws IllegalArgumentException if threads is not positive
+   *  NOTE: multiplications already running finish on the pool they started on
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static synchronized void parallelism( int threads ) {
+      if ( threads < 1 ){
+         throw new IllegalArgumentException( "\n         Sorry, parallelism must be at least one thread." );
+      }
+      ForkJoinPool old = workers;
+      workers = (threads == 1) ? null : new ForkJoinPool( threads );
+      if ( old != null ){
+         old.shutdown();
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to set the operand length below which parallel multiplication stays on one thread
+   *  @param  threshold  length in limbs of the shorter operand
+   *  @throws IllegalArgumentException if the threshold is not positive
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void setParallelThreshold( int threshold ) {
+      if ( threshold < 1 ){
+         throw new IllegalArgumentException( "\n         Sorry, the parallel threshold must be positive." );
+      }
+      parallelThreshold = threshold;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return how many threads multiply() may use
+   *  @return the size of the worker pool, or one when multiplication runs on the calling thread
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static int getParallelism() {
+      ForkJoinPool pool = workers;
+      return (pool == null) ? 1 : pool.getParallelism();
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the current parallel multiplication threshold
+   *  @return the shortest operand length, in limbs, whose sub-products go to other threads
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static int getParallelThreshold() {
+      return parallelThreshold;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the current Karatsuba crossover
+   *  @return the shortest operand length, in limbs, that uses Karatsuba
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static int getKaratsubaThreshold() {
+      return karatsubaThreshold;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the current Toom-Cook-3 crossover
+   *  @return the shortest operand length, in limbs, that uses Toom-Cook-3
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static int getToomCookThreshold() {
+      return toomCookThreshold;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the current number-theoretic transform crossover
+   *  @return the shortest operand length, in limbs, that uses the transform
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static int getNttThreshold() {
+      return nttThreshold;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the current Newton division crossover
+   *  @return the shortest divisor and quotient length, in limbs, that divides with a reciprocal
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static int getNewtonThreshold() {
+      return newtonThreshold;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide the value of this BrobIntk by the BrobInt passed as argument
+   *  @param  gint         BrobInt to divide this by
+   *  @return BrobInt that is the dividend of this BrobInt divided by the one passed in
+   *  NOTE: the quotient is truncated toward zero, the same as Java's own integer division
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt divide( BrobInt gint ) {
+      return divRem( gint )[0];
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to get the remainder of division of this BrobInt by the one passed as argument
+   *  @param  gint         BrobInt to divide this one by
+   *  @return BrobInt that is the remainder of division of this BrobInt by the one passed in
+   *  NOTE: the remainder takes the sign of this BrobInt, the same as Java's "%" operator
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt remainder( BrobInt gint ) {
+      return divRem( gint )[1];
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide this BrobInt by the one passed as argument, finding the quotient and the
+   *   remainder together with one long division; neither BrobInt is changed
+   *  @param  gint         BrobInt to divide this one by
+   *  @return BrobInt array holding the quotient at [0] and the remainder at [1]
+   *  @throws ArithmeticException if the divisor is zero
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt[] divRem( BrobInt gint ) {
+      if ( gint.limbs.length == 0 ){
+         throw new ArithmeticException( "\n         Sorry, you can't divide by zero." );
+      }
+      int[][] qr = divRemLimbs( limbs, gint.limbs );
+      return new BrobInt[] { new BrobInt( qr[0], sign ^ gint.getSign() ), new BrobInt( qr[1], sign ) };
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide one magnitude by another with long division (Knuth's Algorithm D)
+   *  @param  u  limbs of the dividend
+   *  @param  v  limbs of the divisor; must not be zero
+   *  @return int arrays holding the limbs of the quotient at [0] and the remainder at [1]
+   *  NOTE: a long divisor with a long quotient goes to divRemNewton() instead.
+   *        Otherwise both are first scaled so the divisor's top limb is at least half the base; then the two
+   *        top limbs of the running remainder over the top limb of the divisor guess each quotient
+   *        limb, the second limb of the divisor trims that guess, and it is never more than one too
+   *        big, which a single add-back fixes.  Every intermediate fits in a long.
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[][] divRemLimbs( int[] u, int[] v ) {
+      if ( compareLimbs( u, v ) < 0 ){
+         return new int[][] { NO_LIMBS, u };
+      }
+      if ( v.length >= newtonThreshold && u.length - v.length >= newtonThreshold ){
+         return divRemNewton( u, v );
+      }
+      if ( v.length == 1 ){
+         int[] quotient = new int[u.length];
+         int rem = divideLimbsBySmall( u, v[0], quotient );
+         return new int[][] { trimLimbs( quotient ), (rem == 0) ? NO_LIMBS : new int[] { rem } };
+      }
+
+      int n = v.length;
+      int m = u.length - n;
+      int scale = BASE / (v[n - 1] + 1);
+      int[] vn = multiplyLimbsBySmall( v, scale, n );
+      int[] un = multiplyLimbsBySmall( u, scale, u.length + 1 );
+      int[] quotient = new int[m + 1];
+      long vTop = vn[n - 1];
+      long vNext = vn[n - 2];
+
+      for ( int j = m; j >= 0; j-- ){
+         long top  = ((long)un[j + n] * BASE) + un[j + n - 1];
+         long qhat = top / vTop;
+         long rhat = top - (qhat * vTop);
+         while ( qhat >= BASE || (qhat * vNext) > ((rhat * BASE) + un[j + n - 2]) ){
+            qhat--;
+            rhat += vTop;
+            if ( rhat >= BASE ){
+               break;
+            }
+         }
+
+         long carry = 0;
+         int borrow = 0;
+         for ( int i = 0; i < n; i++ ){
+            long product = (qhat * vn[i]) + carry;
+            carry = product / BASE;
+            long diff = un[i + j] - (product - (carry * BASE)) - borrow;
+            borrow = (int)(diff >>> 63);
+            un[i + j] = (int)diff + (borrow * BASE);
+         }
+         long diff = un[j + n] - carry - borrow;
+         un[j + n] = 0;
+         if ( diff < 0 ){
+            qhat--;
+            int addCarry = 0;
+            for ( int i = 0; i < n; i++ ){
+               int sum = un[i + j] + vn[i] + addCarry;
+               if ( sum >= BASE ){
+                  un[i + j] = sum - BASE;
+                  addCarry = 1;
+               } else {
+                  un[i + j] = sum;
+                  addCarry = 0;
+               }
+            }
+         }
+         quotient[j] = (int)qhat;
+      }
+
+      int[] rem = new int[n];
+      divideLimbsBySmall( Arrays.copyOf( un, n ), scale, rem );
+      return new int[][] { trimLimbs( quotient ), trimLimbs( rem ) };
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide one magnitude by another by multiplying with a reciprocal of the divisor
+   *  @param  u  limbs of the dividend
+   *  @param  v  limbs of the divisor
+   *  @return int arrays holding the limbs of the quotient at [0] and the remainder at [1]
+   *  NOTE: after the same scaling as long division, the dividend is taken n limbs at a time from the
+   *        top, where n is the divisor length.  Each step's value is below v * B^n, so one multiply
+   *        by the reciprocal gives its n-limb quotient to within a unit or two, and a couple of
+   *        add or subtract passes finish it.  This costs a few multiplies per block instead of n^2.
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[][] divRemNewton( int[] u, int[] v ) {
+      int n = v.length;
+      int scale = BASE / (v[n - 1] + 1);
+      int[] vn = multiplyLimbsBySmall( v, scale, n );
+      int[] un = trimLimbs( multiplyLimbsBySmall( u, scale, u.length + 1 ) );
+      int[] reciprocal = reciprocalLimbs( vn );
+
+      int blocks = (un.length + n - 1) / n;
+      int[] quotient = new int[blocks * n];
+      int[] rem = NO_LIMBS;
+      for ( int block = blocks - 1; block >= 0; block-- ){
+         int[] current = shiftLimbsUp( rem, n );
+         addLimbsInto( current, sliceLimbs( un, block * n, (block + 1) * n ), 0 );
+         int[][] qr = divRemByReciprocal( trimLimbs( current ), vn, reciprocal );
+         System.arraycopy( qr[0], 0, quotient, block * n, qr[0].length );
+         rem = qr[1];
+      }
+
+      int[] unscaled = new int[rem.length];
+      divideLimbsBySmall( rem, scale, unscaled );
+      return new int[][] { trimLimbs( quotient ), trimLimbs( unscaled ) };
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide a value below v * B^n by v, using a reciprocal of v
+   *  @param  t           limbs of the dividend; less than v times B^n, where n is the length of v
+   *  @param  v           limbs of the divisor, with its top limb at least half the base
+   *  @param  reciprocal  limbs of an estimate of B^(2n) / v from reciprocalLimbs()
+   *  @return int arrays holding the limbs of the quotient at [0] and the remainder at [1]
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[][] divRemByReciprocal( int[] t, int[] v, int[] reciprocal ) {
+      int[] q = sliceLimbs( multiplyLimbs( t, reciprocal ), 2 * v.length, Integer.MAX_VALUE );
+      int[] product = multiplyLimbs( q, v );
+      while ( compareLimbs( product, t ) > 0 ){
+         q = subtractLimbs( q, ONE.limbs );
+         product = subtractLimbs( product, v );
+      }
+      int[] r = subtractLimbs( t, product );
+      while ( compareLimbs( r, v ) >= 0 ){
+         q = addLimbs( q, ONE.limbs );
+         r = subtractLimbs( r, v );
+      }
+      return new int[][] { q, r };
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to estimate B^(2n) / v by Newton's iteration, where n is the length of v
+   *  @param  v  limbs of the divisor, with its top limb at least half the base
+   *  @return int array holding the limbs of an estimate within a unit or two of B^(2n) / v
+   *  NOTE: the reciprocal of the top h limbs of v, shifted up, gets about h limbs right; one Newton
+   *        step X + X * (B^(2n) - v * X) / B^(2n) doubles that.  h is taken one limb past half of n
+   *        so that after the step the error is below one unit.
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] reciprocalLimbs( int[] v ) {
+      int n = v.length;
+      if ( n <= RECIPROCAL_BASE ){
+         int[] power = new int[(2 * n) + 1];
+         power[2 * n] = 1;
+         return divRemLimbs( power, v )[0];
+      }
+      int h = (n / 2) + 2;
+      int k = n - h;
+      int[] x = shiftLimbsUp( reciprocalLimbs( sliceLimbs( v, k, n ) ), k );
+
+      int[] power = new int[(2 * n) + 1];
+      power[2 * n] = 1;
+      BrobInt error = new BrobInt( power, 0 ).subtractInt( new BrobInt( multiplyLimbs( v, x ), 0 ) );
+      int[] step = sliceLimbs( multiplyLimbs( x, error.limbs ), 2 * n, Integer.MAX_VALUE );
+      return new BrobInt( x, 0 ).addInt( new BrobInt( step, error.sign ) ).limbs;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply a magnitude by a power of the base by shifting its limbs up
+   *  @param  a      limbs of the magnitude
+   *  @param  count  number of zero limbs to put underneath
+   *  @return int array holding the shifted limbs, with room for one more carry limb on top
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] shiftLimbsUp( int[] a, int count ) {
+      int[] result = new int[a.length + count + 1];
+      System.arraycopy( a, 0, result, count, a.length );
+      return result;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide a magnitude by a single limb in one pass from the top
+   *  @param  a         limbs of the dividend
+   *  @param  divisor   positive divisor below the base
+   *  @param  quotient  array at least as long as a to receive the quotient limbs; may have leading zeros
+   *  @return int  the remainder
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int divideLimbsBySmall( int[] a, int divisor, int[] quotient ) {
+      long rem = 0;
+      for ( int i = a.length - 1; i >= 0; i-- ){
+         long current = (rem * BASE) + a[i];
+         quotient[i] = (int)(current / divisor);
+         rem = current - ((long)quotient[i] * divisor);
+      }
+      return (int)rem;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply a magnitude by a single limb into an array of a given length
+   *  @param  a         limbs of the magnitude
+   *  @param  factor    non-negative multiplier below the base
+   *  @param  length    length of the result; must be long enough to hold the product
+   *  @return int array of exactly that length, which may have leading zero limbs
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static int[] multiplyLimbsBySmall( int[] a, int factor, int length ) {
+      int[] result = new int[length];
+      long carry = 0;
+      for ( int i = 0; i < a.length; i++ ){
+         long t = ((long)a[i] * factor) + carry;
+         carry = t / BASE;
+         result[i] = (int)(t - (carry * BASE));
+      }
+      if ( carry != 0 ){
+         result[a.length] = (int)carry;
+      }
+      return result;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to compare a BrobInt passed as argument to this BrobInt by numeric value
+   *  @param  gint  BrobInt to compare to this
+   *  @return int   that is -1/0/1 if this BrobInt is less than/equal to/greater than the argument
+   *  NOTE: different signs settle it at once, then different limb counts, and only then the limbs
+   *        from the top down; no strings are built
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int compareTo( BrobInt gint ) {
+      if ( sign != gint.sign ){
+         return (sign == 1) ? -1 : 1;
+      }
+      int magnitude = compareLimbs( limbs, gint.limbs );
+      return (sign == 1) ? -magnitude : magnitude;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to check if an object passed as argument is a BrobInt equal to this BrobInt
+   *  @param  other    object to compare to this
+   *  @return boolean  that is true if it is a BrobInt with the same value and false otherwise
+   *  NOTE: agrees with compareTo(), so BrobInts behave as keys in both hash maps and sorted maps
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public boolean equals( Object other ) {
+      if ( this == other ){
+         return true;
+      }
+      if ( !(other instanceof BrobInt) ){
+         return false;
+      }
+      BrobInt gint = (BrobInt)other;
+      return sign == gint.sign && Arrays.equals( limbs, gint.limbs );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return a hash code for this BrobInt that agrees with equals()
+   *  @return int  the hash of the sign and limbs, worked out on the first call and kept after that
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int hashCode() {
+      int h = hash;
+      if ( h == 0 && limbs.length > 0 ){
+         h = (31 * Arrays.hashCode( limbs )) + sign;
+         hash = h;
+      }
+      return h;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return a BrobInt given a long value passed as argument
+   *  @param  value         long type number to make into a BrobInt
+   *  @return BrobInt  which is the BrobInt representation of the long
+   *  NOTE: values from -1024 through 1024 (or -Dbrobint.cacheLimit) come back as shared instances,
+   *        which is safe now that a BrobInt can't be changed; anything else is split straight into
+   *        limbs without making a string first
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static BrobInt valueOf( long value ) {
+      if ( value >= -CACHE_LIMIT && value <= CACHE_LIMIT ){
+         return CACHE[(int)value + CACHE_LIMIT];
+      }
+      return fromLong( value );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return a String representation of this BrobInt
+   *  @return String  which is the String representation of this BrobInt
+   *  NOTE: the sign and digits go straight into one character array, with no intermediate strings
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public String toString() {
+      char[] digits = new char[sign + digitCount()];
+      if ( sign == 1 ) {
+         digits[0] = '-';
+      }
+      writeDigits( digits, sign );
+      return new String( digits );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to write the decimal representation of this BrobInt to a character sink, most significant
+   *   digit first, without building the whole string; the digits go out a chunk of limbs at a time
+   *  @param  out  where to send the characters; it is neither flushed nor closed
+   *  @throws IOException if the sink does
+   *  NOTE: the characters written are exactly those of toString()
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public void writeTo( Appendable out ) throws IOException {
+      int[] a = limbs;
+      writeLimbs( out, sign, a.length, i -> a[i] );
+   }
+
+  /**
+   *  Writes the decimal digits of a sign and magnitude to a character sink, most significant first;
+   *   the limbs are read through limbAt, lowest first, so BrobIntStore can format a mapped value too
+   */
+   static void writeLimbs( Appendable out, int sign, int length, IntUnaryOperator limbAt ) throws IOException {
+      if ( sign == 1 ){
+         out.append( '-' );
+      }
+      if ( length == 0 ){
+         out.append( '0' );
+         return;
+      }
+      out.append( Integer.toString( limbAt.applyAsInt( length - 1 ) ) );
+      char[] chunk = new char[WRITE_CHUNK_LIMBS * BASE_DIGITS];
+      int next = length - 1;
+      while ( next > 0 ){
+         int count = Math.min( WRITE_CHUNK_LIMBS, next );
+         int pos = count * BASE_DIGITS;
+         for ( int i = next - count; i < next; i++ ){
+            int limb = limbAt.applyAsInt( i );
+            for ( int k = 0; k < BASE_DIGITS; k++ ){
+               int quotient = limb / 10;
+               chunk[--pos] = (char)('0' + (limb - (quotient * 10)));
+               limb = quotient;
+            }
+         }
+         out.append( CharBuffer.wrap( chunk, 0, count * BASE_DIGITS ) );
+         next -= count;
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to write the decimal representation of this BrobInt to a byte stream as ASCII, most
+   *   significant digit first, without building the whole string
+   *  @param  out  where to send the bytes; it is flushed but not closed
+   *  @throws IOException if the stream does
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public void writeTo( OutputStream out ) throws IOException {
+      Writer writer = new OutputStreamWriter( out, StandardCharsets.US_ASCII );
+      writeTo( writer );
+      writer.flush();
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to write the decimal representation of this BrobInt to a print stream such as System.out;
+   *   this only settles which of the two writeTo() methods above a PrintStream gets, since it is both
+   *  @param  out  where to send the characters; it is flushed but not closed
+   *  @throws IOException if the stream does
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public void writeTo( PrintStream out ) throws IOException {
+      writeTo( (OutputStream)out );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to find how many bytes the binary form of this BrobInt takes
+   *  @return int  the size that toByteArray() returns and writeTo( ByteBuffer ) needs
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int serializedSize() {
+      return HEADER_BYTES + (limbs.length * Integer.BYTES);
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the binary form of this BrobInt, which fromByteArray() reads back
+   *  @return byte array holding the header and the limbs
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public byte[] toByteArray() {
+      byte[] bytes = new byte[serializedSize()];
+      writeTo( ByteBuffer.wrap( bytes ) );
+      return bytes;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to make a BrobInt from the binary form that toByteArray() returns
+   *  @param  bytes  the binary form
+   *  @return BrobInt that the bytes hold
+   *  @throws IllegalArgumentException if the bytes are not the binary form of a BrobInt
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static BrobInt fromByteArray( byte[] bytes ) {
+      return readFrom( ByteBuffer.wrap( bytes ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to put the binary form of this BrobInt into a buffer at its position, then move the
+   *   position past it; the buffer's own byte order is left alone
+   *  @param  buffer  where to put the bytes; a direct or memory-mapped buffer works as well as a heap one
+   *  @throws BufferOverflowException if fewer than serializedSize() bytes remain, in which case nothing
+   *                                  is written
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public void writeTo( ByteBuffer buffer ) {
+      int size = serializedSize();
+      if ( buffer.remaining() < size ){
+         throw new BufferOverflowException();
+      }
+      ByteBuffer out = buffer.duplicate().order( ByteOrder.LITTLE_ENDIAN );
+      out.putInt( (limbs.length << 1) | sign );
+      out.asIntBuffer().put( limbs );
+      buffer.position( buffer.position() + size );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to read a BrobInt in binary form from a buffer at its position, then move the position
+   *   past it; the buffer's own byte order is left alone
+   *  @param  buffer  where to read the bytes from; this can wrap a memory-mapped file region directly
+   *  @return BrobInt that the bytes hold
+   *  @throws IllegalArgumentException if the bytes are not the binary form of a BrobInt, in which
+   *                                   case the position does not move
+   *  NOTE: the limbs come out of the buffer in one bulk copy straight into the new BrobInt's own
+   *        array; a BrobInt can't simply point at the buffer, since whoever owns the buffer could
+   *        change it afterwards
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static BrobInt readFrom( ByteBuffer buffer ) {
+      ByteBuffer in = buffer.duplicate().order( ByteOrder.LITTLE_ENDIAN );
+      if ( in.remaining() < HEADER_BYTES ){
+         throw new IllegalArgumentException( "\n         Sorry, the buffer is too short to hold a BrobInt." );
+      }
+      int header = in.getInt();
+      int length = header >>> 1;
+      int sign   = header & 1;
+      if ( (long)length * Integer.BYTES > in.remaining() ){
+         throw new IllegalArgumentException( "\n         Sorry, the buffer is too short to hold a BrobInt." );
+      }
+      int[] limbs = new int[length];
+      in.asIntBuffer().get( limbs );
+      boolean valid = (length > 0) ? limbs[length - 1] != 0 : sign == 0;
+      for ( int i = 0; i < length && valid; i++ ){
+         valid = limbs[i] >= 0 && limbs[i] < BASE;
+      }
+      if ( !valid ){
+         throw new IllegalArgumentException( "\n         Sorry, those bytes are not a BrobInt in binary form." );
       }
+      buffer.position( buffer.position() + HEADER_BYTES + (length * Integer.BYTES) );
+      return (length == 0) ? ZERO : new BrobInt( limbs, sign );
    }
 
   /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -0,0 +1,478 @@
+/** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * File name  :  BrobIntBenchmark.java
+ * Purpose    :  Timing harness for the BrobInt java class
+ * @author    :  Kevin McInerney
+ * Date       :  2026-10-18
+ * Description:  @see <a href='http://bjohnson.lmu.build/cmsi186web/homework06.html'>Assignment Page</a>
+ * Notes      :  Each operation is run against java.math.BigInteger on the same operands as a baseline;
+ *                 "--json file" also writes every result line to a JSON file for tracking across releases
+ * Warnings   :  This is a stopwatch harness, not JMH; run it on a quiet machine and compare numbers
+ *                 from the same host only
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Revision History
+ * ================
+ *   Ver      Date     Modified by:  Reason for change or modification
+ *  -----  ----------  ------------  ---------------------------------------------------------------------
+ *  1.0.0  2026-10-18  K. McInerney  Initial writing and release
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+public class BrobIntBenchmark {
+
+   private static final String usageMessage = "\n  USAGE: java BrobIntBenchmark [calibrate] [--json file] [digit_count ...]" +
+                                              "\n    digit counts default to 100, 10000 and 1000000 digits" +
+                                              "\n    'calibrate' also searches for the multiply thresholds" +
+                                              "\n    '--json file' also writes the results to that file as JSON\n\n";
+   private static final long   SEED         = 186L;        // fixed so runs are comparable
+   private static final long   WORK_PER_RUN = 20000000L;   // roughly how many digits each timed run touches
+   private static final int    WARMUP_RUNS  = 3;
+   private static final int    TIMED_RUNS   = 3;           // the median of these is reported
+   private static final int    LONG_DIVISION_LIMIT = 100000;  // quadratic long division is skipped above this
+   private static final int[]  CALIBRATION_LIMBS = { 8, 12, 16, 24, 32, 48, 64, 96, 128, 192, 256, 384, 512, 768, 1024,
+                                                   1536, 2048, 3072, 4096 };
+
+   private static int[]  digitSizes = { 100, 10000, 1000000 };
+   private static Object sink       = null;                // keeps the JIT from dropping the results
+   private static boolean calibrate = false;
+   private static String  jsonFile  = null;
+   private static StringBuilder jsonResults = new StringBuilder();   // one object per report() line
+
+   private static final  int BAD_CMD_LINE_ARG = -2;
+   private static final  int BAD_OUTPUT_FILE  = -3;
+
+   public BrobIntBenchmark() {
+      super();
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to make a random string of decimal digits with a non-zero leading digit
+   *  @param  rng     random number generator to draw from
+   *  @param  digits  how many digits the string should have
+   *  @return String  of the requested length
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static String randomDigits( Random rng, int digits ) {
+      char[] result = new char[digits];
+      result[0] = (char)('1' + rng.nextInt( 9 ));
+      for ( int i = 1; i < digits; i++ ){
+         result[i] = (char)('0' + rng.nextInt( 10 ));
+      }
+      return new String( result );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to time an operation; it is run a few times to warm up, then timed over several runs
+   *  @param  reps    how many calls in each run; callers scale this so each run does about the same work
+   *  @param  op      the operation to time
+   *  @return double  the average time of one call in nanoseconds, from the median run, so that one
+   *                  run hit by a collection or another process does not skew it
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static double time( long reps, Runnable op ) {
+      for ( int i = 0; i < WARMUP_RUNS; i++ ){
+         for ( long j = 0; j < reps; j++ ){
+            op.run();
+         }
+      }
+      double[] runs = new double[TIMED_RUNS];
+      for ( int i = 0; i < TIMED_RUNS; i++ ){
+         long startTime = System.nanoTime();
+         for ( long j = 0; j < reps; j++ ){
+            op.run();
+         }
+         runs[i] = (double)(System.nanoTime() - startTime) / reps;
+      }
+      Arrays.sort( runs );
+      return runs[TIMED_RUNS / 2];
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to pick a repetition count for an operation whose cost grows with the operand size
+   *  @param  cost    rough cost of one call, in digits touched
+   *  @return long    number of calls that adds up to about WORK_PER_RUN
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static long repsFor( double cost ) {
+      return Math.max( 1L, (long)(WORK_PER_RUN / cost) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to print one line of results, and keep it for the JSON file
+   *  @param  label      name of the operation
+   *  @param  digits     operand size
+   *  @param  brobNanos  average BrobInt time
+   *  @param  bigNanos   average BigInteger time on the same operands, or NaN if there is no baseline
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void report( String label, int digits, double brobNanos, double bigNanos ) {
+      jsonResults.append( (jsonResults.length() == 0) ? "\n    " : ",\n    " );
+      jsonResults.append( String.format( Locale.ROOT, "{ \"operation\": \"%s\", \"digits\": %d, \"brobIntNanos\": %.1f, " +
+                                         "\"bigIntegerNanos\": %s, \"ratio\": %s }", label, digits, brobNanos,
+                                         Double.isNaN( bigNanos ) ? "null" : String.format( Locale.ROOT, "%.1f", bigNanos ),
+                                         Double.isNaN( bigNanos ) ? "null" : String.format( Locale.ROOT, "%.3f", brobNanos / bigNanos ) ) );
+      if ( Double.isNaN( bigNanos ) ) {
+         System.out.println( String.format( "    %-14s %9d digits: %14.1f ns/op   BigInteger:  (no equivalent)",
+                                            label, digits, brobNanos ) );
+         return;
+      }
+      System.out.println( String.format( "    %-14s %9d digits: %14.1f ns/op   BigInteger: %14.1f ns/op   ratio: %7.2f",
+                                         label, digits, brobNanos, bigNanos, brobNanos / bigNanos ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run the constructor, compareTo and toString timings at one size; compareTo is given
+   *   two values that differ only in the lowest digit, so it has to look at every limb
+   *  @param  digits  operand size
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void runParseCompare( int digits ) {
+      Random rng = new Random( SEED );
+      final String aString = randomDigits( rng, digits );
+      final String bString = aString.substring( 0, digits - 1 ) + (char)('0' + ((aString.charAt( digits - 1 ) - '0' + 1) % 10));
+      final BrobInt    a  = new BrobInt( aString );
+      final BrobInt    b  = new BrobInt( bString );
+      final BigInteger ba = new BigInteger( aString );
+      final BigInteger bb = new BigInteger( bString );
+
+      long reps = repsFor( digits * 4.0 );
+      report( "constructor", digits, time( reps, () -> sink = new BrobInt( aString ) ),
+                                     time( repsFor( Math.pow( digits, 1.5 ) ), () -> sink = new BigInteger( aString ) ) );
+      report( "toString", digits, time( reps, () -> sink = a.toString() ),
+                                  time( repsFor( Math.pow( digits, 1.5 ) ), () -> sink = ba.toString() ) );
+      reps = repsFor( digits / 4.0 );
+      report( "compareTo", digits, time( reps, () -> sink = a.compareTo( b ) ), time( reps, () -> sink = ba.compareTo( bb ) ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run the add and subtract timings at one size
+   *  @param  digits  operand size
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void runAddSubtract( int digits ) {
+      Random rng = new Random( SEED );
+      String aString = randomDigits( rng, digits );
+      String bString = randomDigits( rng, digits );
+      final BrobInt    a  = new BrobInt( aString );
+      final BrobInt    b  = new BrobInt( bString );
+      final BigInteger ba = new BigInteger( aString );
+      final BigInteger bb = new BigInteger( bString );
+
+      long reps = repsFor( digits );
+      double big = time( reps, () -> sink = ba.add( bb ) );
+      report( "addByte",      digits, time( reps, () -> sink = a.addByte( b ) ), big );
+      report( "addInt",       digits, time( reps, () -> sink = a.addInt( b ) ), big );
+      big = time( reps, () -> sink = ba.subtract( bb ) );
+      report( "subtractByte", digits, time( reps, () -> sink = a.subtractByte( b ) ), big );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run the multiply timing at one size, with whatever algorithm multiply() picks
+   *  @param  digits  operand size
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void runMultiply( int digits ) {
+      Random rng = new Random( SEED );
+      String aString = randomDigits( rng, digits );
+      String bString = randomDigits( rng, digits );
+      final BrobInt    a  = new BrobInt( aString );
+      final BrobInt    b  = new BrobInt( bString );
+      final BigInteger ba = new BigInteger( aString );
+      final BigInteger bb = new BigInteger( bString );
+
+      long reps = repsFor( Math.pow( digits, 1.5 ) );
+      report( "multiply", digits, time( reps, () -> sink = a.multiply( b ) ),
+                                  time( reps, () -> sink = ba.multiply( bb ) ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run the divide timing at one size, dividing a number twice as long by one of that
+   *   size; long division is timed on its own (Newton reciprocal turned off) up to LONG_DIVISION_LIMIT
+   *  @param  digits  divisor size
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void runDivide( int digits ) {
+      Random rng = new Random( SEED );
+      String aString = randomDigits( rng, 2 * digits );
+      String bString = randomDigits( rng, digits );
+      final BrobInt    a  = new BrobInt( aString );
+      final BrobInt    b  = new BrobInt( bString );
+      final BigInteger ba = new BigInteger( aString );
+      final BigInteger bb = new BigInteger( bString );
+
+      long reps = repsFor( Math.pow( digits, 1.5 ) );
+      double big = time( reps, () -> sink = ba.divide( bb ) );
+      report( "divide", digits, time( reps, () -> sink = a.divide( b ) ), big );
+      report( "remainder", digits, time( reps, () -> sink = a.remainder( b ) ),
+                                   time( reps, () -> sink = ba.remainder( bb ) ) );
+      if ( digits <= LONG_DIVISION_LIMIT ) {
+         int newton = BrobInt.getNewtonThreshold();
+         BrobInt.setNewtonThreshold( Integer.MAX_VALUE );
+         report( "divide (long)", digits, time( repsFor( (double)digits * digits / 100.0 ), () -> sink = a.divide( b ) ), big );
+         BrobInt.setNewtonThreshold( newton );
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run the square root and cube root timings at one size; BigInteger has no nth root,
+   *   so the cube root line has no baseline
+   *  @param  digits  operand size in decimal digits
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void runRoots( int digits ) {
+      Random rng = new Random( SEED );
+      String aString = randomDigits( rng, digits );
+      final BrobInt    a  = new BrobInt( aString );
+      final BigInteger ba = new BigInteger( aString );
+
+      long reps = repsFor( Math.pow( digits, 1.5 ) * 4.0 );
+      report( "sqrt", digits, time( reps, () -> sink = a.sqrt() ), time( reps, () -> sink = ba.sqrt() ) );
+      report( "nthRoot(3)", digits, time( reps, () -> sink = a.nthRoot( 3 ) ), Double.NaN );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run the shift and bitwise timings at one size
+   *  @param  digits  operand size in decimal digits
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void runBits( int digits ) {
+      Random rng = new Random( SEED );
+      String aString = randomDigits( rng, digits );
+      String bString = randomDigits( rng, digits );
+      final BrobInt    a  = new BrobInt( aString );
+      final BrobInt    b  = new BrobInt( bString ).negate();
+      final BigInteger ba = new BigInteger( aString );
+      final BigInteger bb = new BigInteger( bString ).negate();
+
+      long reps = repsFor( digits * 40.0 );
+      report( "shiftLeft(100)", digits, time( reps, () -> sink = a.shiftLeft( 100 ) ), time( reps, () -> sink = ba.shiftLeft( 100 ) ) );
+      report( "shiftRight(100)", digits, time( reps, () -> sink = a.shiftRight( 100 ) ), time( reps, () -> sink = ba.shiftRight( 100 ) ) );
+
+      reps = repsFor( Math.pow( digits, 1.5 ) * 4.0 );
+      report( "and", digits, time( reps, () -> sink = a.and( b ) ), time( reps, () -> sink = ba.and( bb ) ) );
+      report( "xor", digits, time( reps, () -> sink = a.xor( b ) ), time( reps, () -> sink = ba.xor( bb ) ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run the BrobDecimal timings at one size, with BigDecimal as the baseline column; the
+   *   operands have different scales, so add has to line them up, and divide rounds to the operand size
+   *  @param  digits  operand size in decimal digits
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void runDecimal( int digits ) {
+      Random rng = new Random( SEED );
+      String aString = randomDigits( rng, digits );
+      String bString = randomDigits( rng, digits );
+      aString = aString.substring( 0, digits / 2 ) + "." + aString.substring( digits / 2 );
+      bString = bString.substring( 0, digits / 3 ) + "." + bString.substring( digits / 3 );
+      final BrobDecimal a  = new BrobDecimal( aString );
+      final BrobDecimal b  = new BrobDecimal( bString );
+      final BigDecimal  ba = new BigDecimal( aString );
+      final BigDecimal  bb = new BigDecimal( bString );
+      final MathContext mc = new MathContext( digits, RoundingMode.HALF_EVEN );
+
+      long reps = repsFor( digits );
+      report( "dec add", digits, time( reps, () -> sink = a.add( b ) ), time( reps, () -> sink = ba.add( bb ) ) );
+
+      reps = repsFor( Math.pow( digits, 1.5 ) );
+      report( "dec multiply", digits, time( reps, () -> sink = a.multiply( b ) ),
+                                      time( reps, () -> sink = ba.multiply( bb ) ) );
+      report( "dec divide", digits, time( reps, () -> sink = a.divide( b, mc ) ),
+                                    time( reps, () -> sink = ba.divide( bb, mc ) ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to time one multiply at a given size under the given thresholds
+   *  @param  limbs      operand size in limbs
+   *  @param  karatsuba  Karatsuba threshold to use
+   *  @param  toomCook   Toom-Cook-3 threshold to use
+   *  @param  ntt        number-theoretic transform threshold to use
+   *  @return double     the average time of one call in nanoseconds
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static double timeMultiply( int limbs, int karatsuba, int toomCook, int ntt ) {
+      Random rng = new Random( SEED );
+      final BrobInt a = new BrobInt( randomDigits( rng, limbs * 9 ) );
+      final BrobInt b = new BrobInt( randomDigits( rng, limbs * 9 ) );
+      BrobInt.setMultiplyThresholds( karatsuba, toomCook );
+      BrobInt.setNttThreshold( ntt );
+      return time( repsFor( (double)limbs * limbs / 2.5 ), () -> sink = a.multiply( b ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to search for the multiply crossovers on this host; at each size the top level is
+   *   timed with and without the next algorithm (its sub-products fall back to the cheaper one), and
+   *   the size after the last one where the split still lost is reported as the suggested threshold,
+   *   so a single noisy win at a small size does not drag the threshold down
+   *  NOTE: the thresholds in effect before the search are put back afterwards
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void calibrateMultiply() {
+      int oldKaratsuba = BrobInt.getKaratsubaThreshold();
+      int oldToomCook  = BrobInt.getToomCookThreshold();
+      int oldNtt       = BrobInt.getNttThreshold();
+      int never        = Integer.MAX_VALUE;
+      int karatsuba    = -1;
+      int toomCook     = -1;
+      int ntt          = -1;
+
+      for ( int limbs : CALIBRATION_LIMBS ){
+         double plain = timeMultiply( limbs, never, never, never );
+         double split = timeMultiply( limbs, limbs, never, never );
+         System.out.println( String.format( "    %-14s %9d limbs:  %14.1f ns/op   Karatsuba:  %14.1f ns/op",
+                                            "schoolbook", limbs, plain, split ) );
+         if ( split >= plain ){
+            karatsuba = -1;
+         } else if ( karatsuba < 0 ){
+            karatsuba = limbs;
+         }
+      }
+      if ( karatsuba < 0 ){
+         karatsuba = oldKaratsuba;
+      }
+      for ( int limbs : CALIBRATION_LIMBS ){
+         if ( limbs < 3 * karatsuba ){
+            continue;
+         }
+         double plain = timeMultiply( limbs, karatsuba, never, never );
+         double split = timeMultiply( limbs, karatsuba, limbs, never );
+         System.out.println( String.format( "    %-14s %9d limbs:  %14.1f ns/op   Toom-Cook-3: %13.1f ns/op",
+                                            "Karatsuba", limbs, plain, split ) );
+         if ( split >= plain ){
+            toomCook = -1;
+         } else if ( toomCook < 0 ){
+            toomCook = limbs;
+         }
+      }
+      if ( toomCook < 0 ){
+         toomCook = oldToomCook;
+      }
+      for ( int limbs : CALIBRATION_LIMBS ){
+         if ( limbs < toomCook ){
+            continue;
+         }
+         double plain = timeMultiply( limbs, karatsuba, toomCook, never );
+         double split = timeMultiply( limbs, karatsuba, toomCook, limbs );
+         System.out.println( String.format( "    %-14s %9d limbs:  %14.1f ns/op   NTT:        %14.1f ns/op",
+                                            "Toom-Cook-3", limbs, plain, split ) );
+         if ( split >= plain ){
+            ntt = -1;
+         } else if ( ntt < 0 ){
+            ntt = limbs;
+         }
+      }
+      if ( ntt < 0 ){
+         ntt = oldNtt;
+      }
+      BrobInt.setMultiplyThresholds( oldKaratsuba, oldToomCook );
+      BrobInt.setNttThreshold( oldNtt );
+      System.out.println( "\n    current thresholds:   Karatsuba " + oldKaratsuba + " limbs, Toom-Cook-3 " + oldToomCook +
+                          " limbs, NTT " + oldNtt + " limbs" );
+      System.out.println( "    suggested thresholds: Karatsuba " + karatsuba + " limbs, Toom-Cook-3 " + toomCook +
+                          " limbs, NTT " + ntt + " limbs" );
+      System.out.println( "    apply them with BrobInt.setMultiplyThresholds( " + karatsuba + ", " + toomCook + " )" +
+                          " and BrobInt.setNttThreshold( " + ntt + " )" );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to write every result reported so far to a JSON file, with enough about the run to tell
+   *   results from different hosts and releases apart
+   *  @param  fileName  the file to write; it is replaced if it exists
+   *  @throws IOException if the file can't be written
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void writeJson( String fileName ) throws IOException {
+      String json = "{\n" +
+                    "  \"benchmark\": \"BrobIntBenchmark\",\n" +
+                    "  \"timestamp\": " + System.currentTimeMillis() + ",\n" +
+                    "  \"javaVersion\": \"" + System.getProperty( "java.version" ) + "\",\n" +
+                    "  \"processors\": " + Runtime.getRuntime().availableProcessors() + ",\n" +
+                    "  \"seed\": " + SEED + ",\n" +
+                    "  \"results\": [" + jsonResults + "\n  ]\n" +
+                    "}\n";
+      Files.write( Paths.get( fileName ), json.getBytes( StandardCharsets.UTF_8 ) );
+   }
+
+   public static void main( String[] args ) {
+      System.out.println( "\n\n   Welcome to the BrobInt benchmark!\n" );
+      int[] sizes = new int[args.length];
+      int   count = 0;
+      try {
+         for ( int i = 0; i < args.length; i++ ){
+            if ( args[i].equals( "calibrate" ) ) {
+               calibrate = true;
+            } else if ( args[i].equals( "--json" ) && i + 1 < args.length ) {
+               jsonFile = args[++i];
+            } else {
+               sizes[count] = Integer.parseInt( args[i] );
+               if ( sizes[count++] < 1 ){
+                  throw new NumberFormatException();
+               }
+            }
+         }
+      }
+      catch( NumberFormatException nfe ) {
+         System.out.println( "\n   Sorry, that does not compute!!" + usageMessage );
+         System.exit( BAD_CMD_LINE_ARG );
+      }
+      if ( count > 0 ) {
+         digitSizes = Arrays.copyOf( sizes, count );
+      }
+
+      System.out.println( "    TIMING CONSTRUCTOR, COMPARETO AND TOSTRING METHODS:\n" +
+                          "    ===================================================" );
+      for ( int digits : digitSizes ){
+         runParseCompare( digits );
+      }
+
+      System.out.println( "\n    TIMING ADD AND SUBTRACT METHODS:\n" +
+                          "    ================================" );
+      for ( int digits : digitSizes ){
+         runAddSubtract( digits );
+      }
+
+      System.out.println( "\n    TIMING MULTIPLY METHOD:\n" +
+                          "    =======================" );
+      for ( int digits : digitSizes ){
+         runMultiply( digits );
+      }
+
+      System.out.println( "\n    TIMING DIVIDE METHOD:\n" +
+                          "    =====================" );
+      for ( int digits : digitSizes ){
+         runDivide( digits );
+      }
+
+      System.out.println( "\n    TIMING SQRT AND NTHROOT METHODS:\n" +
+                          "    ================================" );
+      for ( int digits : digitSizes ){
+         runRoots( digits );
+      }
+
+      System.out.println( "\n    TIMING SHIFT AND BITWISE METHODS:\n" +
+                          "    =================================" );
+      for ( int digits : digitSizes ){
+         runBits( digits );
+      }
+
+      System.out.println( "\n    TIMING BROBDECIMAL METHODS:\n" +
+                          "    ===========================" );
+      for ( int digits : digitSizes ){
+         runDecimal( digits );
+      }
+
+      if ( calibrate ) {
+         System.out.println( "\n    CALIBRATING MULTIPLY THRESHOLDS:\n" +
+                             "    ================================" );
+         calibrateMultiply();
+      }
+      if ( jsonFile != null ) {
+         try {
+            writeJson( jsonFile );
+            System.out.println( "\n    results written to " + jsonFile );
+         }
+         catch( IOException ioe ) {
+            System.out.println( "\n   Sorry, couldn't write " + jsonFile + ": " + ioe.getMessage() );
+            System.exit( BAD_OUTPUT_FILE );
+         }
+      }
+      System.exit( 0 );
+   }
+}
@@ -0,0 +1,354 @@
+/** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * File name  :  BrobIntBuilder.java
+ * Purpose    :  Mutable accumulator for the BrobInt java class, for loops that update one big number
+ *                 over and over
+ * @author    :  Kevin McInerney
+ * Date       :  2026-10-18
+ * Description:  @see <a href='http://bjohnson.lmu.build/cmsi186web/homework06.html'>Assignment Page</a>
+ * Notes      :  Uses the same base 10^9 limbs as BrobInt, in a buffer that grows as needed and is
+ *                 reused from one operation to the next
+ * Warnings   :  Not thread safe; freeze the result with toBrobInt() before sharing it
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Revision History
+ * ================
+ *   Ver      Date     Modified by:  Reason for change or modification
+ *  -----  ----------  ------------  ---------------------------------------------------------------------
+ *  1.0.0  2026-10-18  K. McInerney  Initial writing and release
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+import java.util.Arrays;
+
+public class BrobIntBuilder {
+
+   private static final int BASE       = 1000000000;   // radix of each limb, the same as BrobInt's
+   private static final int SHIFT_STEP = 29;           // 2^29 is the largest power of two below the base
+   private static final int MIN_CAPACITY = 4;
+
+  /// These are the internal fields
+   private int[] limbs;       // buffer, least significant limb first; only the first "length" are in use
+   private int   length;      // limbs in use, with no leading zero limbs
+   private int   sign;        // "0" is positive, "1" is negative; zero is always positive
+
+  /**
+   *  Constructor makes an accumulator holding zero
+   */
+   public BrobIntBuilder() {
+      limbs  = new int[MIN_CAPACITY];
+      length = 0;
+      sign   = 0;
+   }
+
+  /**
+   *  Constructor makes an accumulator holding a copy of a BrobInt's value
+   *  @param  value  the starting value
+   */
+   public BrobIntBuilder( BrobInt value ) {
+      this();
+      set( value );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to replace the value held with a copy of a BrobInt's value, reusing the buffer
+   *  @param  value  the new value
+   *  @return this accumulator, so calls can be chained
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobIntBuilder set( BrobInt value ) {
+      int[] source = value.magnitude();
+      ensureCapacity( source.length );
+      System.arraycopy( source, 0, limbs, 0, source.length );
+      length = source.length;
+      sign   = value.getSign();
+      return this;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to add a BrobInt to the value held
+   *  @param  gint  BrobInt to add
+   *  @return this accumulator, so calls can be chained
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobIntBuilder addInPlace( BrobInt gint ) {
+      int[] other = gint.magnitude();
+      return addSigned( other, other.length, gint.getSign() );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to add the value of another accumulator to the value held; the other one is unchanged
+   *   unless it is this same accumulator, which then doubles
+   *  @param  other  accumulator to add
+   *  @return this accumulator, so calls can be chained
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobIntBuilder addInPlace( BrobIntBuilder other ) {
+      return addSigned( other.limbs, other.length, other.sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to subtract a BrobInt from the value held
+   *  @param  gint  BrobInt to subtract
+   *  @return this accumulator, so calls can be chained
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobIntBuilder subtractInPlace( BrobInt gint ) {
+      int[] other = gint.magnitude();
+      return addSigned( other, other.length, 1 - gint.getSign() );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to subtract the value of another accumulator from the value held
+   *  @param  other  accumulator to subtract
+   *  @return this accumulator, so calls can be chained
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobIntBuilder subtractInPlace( BrobIntBuilder other ) {
+      return addSigned( other.limbs, other.length, 1 - other.sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply the value held by a BrobInt
+   *  @param  gint  BrobInt to multiply by
+   *  @return this accumulator, so calls can be chained
+   *  NOTE: a single-limb factor is multiplied straight through the buffer; longer ones go through the
+   *        same Karatsuba / Toom-Cook / NTT tiers as BrobInt.multiply(), and the buffer takes the result
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobIntBuilder multiplyInPlace( BrobInt gint ) {
+      return multiplySigned( gint.magnitude(), gint.getSign() );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply the value held by the value of another accumulator, which may be this one
+   *  @param  other  accumulator to multiply by
+   *  @return this accumulator, so calls can be chained
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobIntBuilder multiplyInPlace( BrobIntBuilder other ) {
+      if ( other == this ){
+         int[] mine = Arrays.copyOf( limbs, length );
+         install( BrobInt.multiplyMagnitudes( mine, mine ) );
+         sign = 0;
+         return this;
+      }
+      return multiplySigned( Arrays.copyOf( other.limbs, other.length ), other.sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply the value held by two to a power, the way BigInteger.shiftLeft() does
+   *  @param  bits  the power of two; not negative
+   *  @return this accumulator, so calls can be chained
+   *  @throws IllegalArgumentException if bits is negative
+   *  NOTE: the limbs are decimal, so this is done as passes of multiplying by up to 2^29 at a time
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobIntBuilder shiftLeft( int bits ) {
+      if ( bits < 0 ){
+         throw new IllegalArgumentException( "\n         Sorry, the shift distance must not be negative." );
+      }
+      while ( bits > 0 && length > 0 ){
+         int step = Math.min( bits, SHIFT_STEP );
+         multiplyBySmall( 1 << step );
+         bits -= step;
+      }
+      return this;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to freeze the value held into a new BrobInt; the accumulator can keep being used
+   *  @return BrobInt  with its own copy of the value held
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt toBrobInt() {
+      return BrobInt.fromLimbs( limbs, length, sign );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return a String representation of the value held
+   *  @return String  the same as toBrobInt().toString()
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public String toString() {
+      return toBrobInt().toString();
+   }
+
+  /**
+   *  Adds a signed magnitude to the value held; same signs add the magnitudes, different signs take
+   *   the smaller magnitude from the larger and keep the sign of the larger
+   *  @param  other        limbs of the value to add; may be this accumulator's own buffer
+   *  @param  otherLength  how many of those limbs are in use
+   *  @param  otherSign    "0" if that value is positive, "1" if negative
+   *  @return this accumulator
+   */
+   private BrobIntBuilder addSigned( int[] other, int otherLength, int otherSign ) {
+      if ( otherLength == 0 ){
+         return this;
+      }
+      if ( length == 0 ){
+         sign = otherSign;
+      }
+      if ( sign == otherSign ){
+         addMagnitude( other, otherLength );
+         return this;
+      }
+      int cmp = compareMagnitude( other, otherLength );
+      if ( cmp == 0 ){
+         length = 0;
+         sign   = 0;
+      } else if ( cmp > 0 ){
+         subtractMagnitude( other, otherLength );
+      } else {
+         subtractFromMagnitude( other, otherLength );
+         sign = otherSign;
+      }
+      return this;
+   }
+
+  /**
+   *  Adds a magnitude into the buffer with a single carry pass; limbs past "length" are treated as
+   *   zero, since the buffer may still hold old ones there
+   *  @param  other        limbs to add
+   *  @param  otherLength  how many of those limbs are in use
+   */
+   private void addMagnitude( int[] other, int otherLength ) {
+      int n = Math.max( length, otherLength );
+      ensureCapacity( n + 1 );
+      int carry = 0;
+      for ( int i = 0; i < n; i++ ){
+         int sum = ((i < length) ? limbs[i] : 0) + ((i < otherLength) ? other[i] : 0) + carry;
+         if ( sum >= BASE ){
+            limbs[i] = sum - BASE;
+            carry = 1;
+         } else {
+            limbs[i] = sum;
+            carry = 0;
+         }
+      }
+      limbs[n] = carry;
+      length = n + carry;
+   }
+
+  /**
+   *  Takes a smaller magnitude away from the one in the buffer
+   *  @param  other        limbs to subtract; their value is below the one held
+   *  @param  otherLength  how many of those limbs are in use
+   */
+   private void subtractMagnitude( int[] other, int otherLength ) {
+      int borrow = 0;
+      for ( int i = 0; i < length; i++ ){
+         int diff = limbs[i] - ((i < otherLength) ? other[i] : 0) - borrow;
+         if ( diff < 0 ){
+            limbs[i] = diff + BASE;
+            borrow = 1;
+         } else {
+            limbs[i] = diff;
+            borrow = 0;
+         }
+      }
+      trim();
+   }
+
+  /**
+   *  Replaces the magnitude in the buffer with a larger one minus it
+   *  @param  other        limbs to subtract from; their value is above the one held
+   *  @param  otherLength  how many of those limbs are in use
+   */
+   private void subtractFromMagnitude( int[] other, int otherLength ) {
+      ensureCapacity( otherLength );
+      int borrow = 0;
+      for ( int i = 0; i < otherLength; i++ ){
+         int diff = other[i] - ((i < length) ? limbs[i] : 0) - borrow;
+         if ( diff < 0 ){
+            limbs[i] = diff + BASE;
+            borrow = 1;
+         } else {
+            limbs[i] = diff;
+            borrow = 0;
+         }
+      }
+      length = otherLength;
+      trim();
+   }
+
+  /**
+   *  Compares the magnitude held with another one, checking the lengths first
+   *  @param  other        limbs to compare with
+   *  @param  otherLength  how many of those limbs are in use
+   *  @return int  that is one of neg/0/pos if the value held is less than/equal to/greater than it
+   */
+   private int compareMagnitude( int[] other, int otherLength ) {
+      if ( length != otherLength ){
+         return (length < otherLength) ? -1 : 1;
+      }
+      for ( int i = length - 1; i >= 0; i-- ){
+         if ( limbs[i] != other[i] ){
+            return (limbs[i] < other[i]) ? -1 : 1;
+         }
+      }
+      return 0;
+   }
+
+  /**
+   *  Multiplies the value held by a signed magnitude
+   *  @param  other      limbs of the factor; not this accumulator's own buffer
+   *  @param  otherSign  "0" if the factor is positive, "1" if negative
+   *  @return this accumulator
+   */
+   private BrobIntBuilder multiplySigned( int[] other, int otherSign ) {
+      if ( length == 0 || other.length == 0 ){
+         length = 0;
+         sign   = 0;
+         return this;
+      }
+      if ( other.length == 1 ){
+         multiplyBySmall( other[0] );
+      } else {
+         install( BrobInt.multiplyMagnitudes( Arrays.copyOf( limbs, length ), other ) );
+      }
+      sign = sign ^ otherSign;
+      return this;
+   }
+
+  /**
+   *  Multiplies the magnitude held by a single limb, straight through the buffer
+   *  @param  factor  positive multiplier below the base
+   */
+   private void multiplyBySmall( int factor ) {
+      ensureCapacity( length + 1 );
+      long carry = 0;
+      for ( int i = 0; i < length; i++ ){
+         long t = ((long)limbs[i] * factor) + carry;
+         carry = t / BASE;
+         limbs[i] = (int)(t - (carry * BASE));
+      }
+      limbs[length] = (int)carry;
+      if ( carry != 0 ){
+         length++;
+      }
+   }
+
+  /**
+   *  Takes over a freshly made product as the magnitude held, copying it into the buffer if it fits
+   *  @param  product  limbs with no leading zero limbs, not shared with anything else
+   */
+   private void install( int[] product ) {
+      if ( product.length <= limbs.length ){
+         System.arraycopy( product, 0, limbs, 0, product.length );
+      } else {
+         limbs = product;
+      }
+      length = product.length;
+   }
+
+  /**
+   *  Drops leading zero limbs from the length in use, and makes a zero value positive
+   */
+   private void trim() {
+      while ( length > 0 && limbs[length - 1] == 0 ){
+         length--;
+      }
+      if ( length == 0 ){
+         sign = 0;
+      }
+   }
+
+  /**
+   *  Grows the buffer, at least doubling it, so it holds a given number of limbs
+   *  @param  capacity  how many limbs are needed
+   */
+   private void ensureCapacity( int capacity ) {
+      if ( limbs.length < capacity ){
+         limbs = Arrays.copyOf( limbs, Math.max( capacity, 2 * limbs.length ) );
+      }
+   }
+}
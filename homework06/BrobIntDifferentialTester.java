@@ -0,0 +1,539 @@
+/** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * File name  :  BrobIntDifferentialTester.java
+ * Purpose    :  Randomized differential test harness for the BrobInt java class
+ * @author    :  Kevin McInerney
+ * Date       :  2026-10-18
+ * Description:  @see <a href='http://bjohnson.lmu.build/cmsi186web/homework06.html'>Assignment Page</a>
+ * Notes      :  Every case builds two operand strings from its own seed and runs each BrobInt operation
+ *                 on them next to java.math.BigInteger; a mismatch is shrunk to the shortest operands
+ *                 that still fail and reported with the case seed, which "--case seed" runs again alone
+ * Warnings   :  The multiply and divide thresholds are lowered for some cases and put back afterwards,
+ *                 so nothing else should be using BrobInt while this runs
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Revision History
+ * ================
+ *   Ver      Date     Modified by:  Reason for change or modification
+ *  -----  ----------  ------------  ---------------------------------------------------------------------
+ *  1.0.0  2026-10-18  K. McInerney  Initial writing and release
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.function.Supplier;
+
+public class BrobIntDifferentialTester {
+
+   private static final String usageMessage = "\n  USAGE: java BrobIntDifferentialTester [--cases n] [--seed s] [--digits d] [--case s]" +
+                                              "\n    --cases   how many random cases to run; defaults to 30000" +
+                                              "\n    --seed    seed for the whole run; defaults to the clock, and is printed" +
+                                              "\n    --digits  longest operand to build; defaults to 3000 digits" +
+                                              "\n    --case    runs just the one case with that seed, as printed by a failure\n\n";
+   private static final String[] OPERATIONS = { "compareTo", "equals", "negate", "valueOf", "addByte", "addInt",
+                                                "subtractByte", "subtractInt", "multiply", "divide", "remainder",
+                                                "divRem", "pow", "modPow", "sqrt", "nthRoot", "gcd", "extendedGcd",
+                                                "shiftLeft", "shiftRight", "testBit", "bitLength", "and", "or", "xor",
+                                                "not", "serialize", "builder" };
+   private static final int    DEFAULT_CASES      = 30000;
+   private static final int    DEFAULT_DIGITS     = 3000;
+   private static final int    EXPENSIVE_DIGITS   = 600;    // gcd, roots and the bitwise ops skip longer operands
+   private static final int    MOD_POW_DIGITS     = 60;     // modPow only runs when both operands are this short
+   private static final int    POW_DIGITS         = 200;    // pow only runs on a base this short
+   private static final int    LOW_TIER_ODDS      = 8;      // one case in this many runs with the thresholds lowered
+   private static final int    MAX_FAILURES       = 10;     // the run stops after reporting this many
+   private static final int    MAX_SHRINK_STEPS   = 5000;
+
+   private static final  int BAD_CMD_LINE_ARG = -2;
+   private static final  int TESTS_FAILED     = -4;
+
+   private static int maxDigits = DEFAULT_DIGITS;
+
+   private static int savedKaratsuba;
+   private static int savedToomCook;
+   private static int savedNtt;
+   private static int savedNewton;
+
+   public BrobIntDifferentialTester() {
+      super();
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to build a string of decimal digits of one of the shapes that tend to find carry and
+   *   limb boundary mistakes
+   *  @param  rng     random number generator for this case
+   *  @param  digits  how many digits the string should have; at least one
+   *  @return String  of digits, with a non-zero leading digit unless the value is zero
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static String shapedDigits( Random rng, int digits ) {
+      StringBuilder sb = new StringBuilder( digits + 1 );
+      switch ( rng.nextInt( 8 ) ) {
+         case 0:                                    // all nines, so adding one carries the whole length
+            for ( int i = 0; i < digits; i++ ){
+               sb.append( '9' );
+            }
+            return sb.toString();
+         case 1:                                    // a power of ten, or one more than one
+            sb.append( '1' );
+            for ( int i = 1; i < digits; i++ ){
+               sb.append( '0' );
+            }
+            if ( digits > 1 && rng.nextBoolean() ){
+               sb.setCharAt( digits - 1, '1' );
+            }
+            return sb.toString();
+         case 2:                                    // a power of two, or one either side of it
+            BigInteger power = BigInteger.ONE.shiftLeft( (int)(digits * 3.3219280948873626) );
+            return power.add( BigInteger.valueOf( rng.nextInt( 3 ) - 1 ) ).toString();
+         case 3:                                    // runs of nines and zeros, which borrow across limbs
+            for ( int i = 0; i < digits; i++ ){
+               sb.append( (rng.nextInt( 4 ) == 0) ? '0' : '9' );
+            }
+            sb.setCharAt( 0, '9' );
+            return sb.toString();
+         default:
+            sb.append( (char)('1' + rng.nextInt( 9 )) );
+            for ( int i = 1; i < digits; i++ ){
+               sb.append( (char)('0' + rng.nextInt( 10 )) );
+            }
+            return sb.toString();
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to build one operand string, of a random size class, sign and spelling
+   *  @param  rng     random number generator for this case
+   *  @return String  that both BrobInt and BigInteger accept, possibly with a "+" or leading zeros
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static String randomOperand( Random rng ) {
+      int sizeClass = rng.nextInt( 100 );
+      String digits;
+      if ( sizeClass < 6 ){
+         digits = "0";
+      } else if ( sizeClass < 36 ){
+         digits = shapedDigits( rng, 1 + rng.nextInt( 19 ) );                     // fits a long, or nearly
+      } else if ( sizeClass < 56 ){
+         int limbs = 1 + rng.nextInt( 4 );                                         // right at a limb edge
+         digits = shapedDigits( rng, Math.max( 1, (9 * limbs) + rng.nextInt( 3 ) - 1 ) );
+      } else if ( sizeClass < 88 ){
+         digits = shapedDigits( rng, 1 + rng.nextInt( Math.min( 200, maxDigits ) ) );
+      } else if ( sizeClass < 98 ){
+         digits = shapedDigits( rng, 1 + rng.nextInt( Math.min( 1000, maxDigits ) ) );
+      } else {
+         digits = shapedDigits( rng, 1 + rng.nextInt( maxDigits ) );
+      }
+      String zeros = "";
+      if ( rng.nextInt( 8 ) == 0 ){
+         zeros = "0000000000".substring( 0, 1 + rng.nextInt( 10 ) );
+      }
+      switch ( rng.nextInt( 6 ) ) {
+         case 0:  return "+" + zeros + digits;
+         case 1:
+         case 2:  return "-" + zeros + digits;
+         default: return zeros + digits;
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run one side of a comparison, turning an arithmetic exception into a result of its own
+   *  @param  op      the computation
+   *  @return String  what it gave, or "throws ArithmeticException" so both sides have to throw together
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static String outcome( Supplier<Object> op ) {
+      try {
+         return String.valueOf( op.get() );
+      }
+      catch( ArithmeticException e ) {
+         return "throws ArithmeticException";
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to check one operation on one pair of operands against BigInteger
+   *  @param  op       name of the operation, one of OPERATIONS
+   *  @param  aString  the first operand as text
+   *  @param  bString  the second operand as text
+   *  @return String   describing the mismatch, or null if the two agree or the operation was skipped
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static String mismatch( String op, String aString, String bString ) {
+      try {
+         return mismatch( op, new BigInteger( aString ), new BigInteger( bString ),
+                          new BrobInt( aString ), new BrobInt( bString ) );
+      }
+      catch( RuntimeException e ) {
+         return "threw " + e.toString().replace( "\n", " " ).replaceAll( " +", " " );
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to check one operation on one pair of operands already parsed both ways
+   *  @param  op       name of the operation, one of OPERATIONS
+   *  @param  x        the first operand as a BigInteger
+   *  @param  y        the second operand as a BigInteger
+   *  @param  a        the first operand as a BrobInt
+   *  @param  b        the second operand as a BrobInt
+   *  @return String   describing the mismatch, or null if the two agree or the operation was skipped
+   *  NOTE: the second operand also stands in for the small int arguments, such as the exponent for
+   *        pow() and the distance for the shifts, so that shrinking it shrinks them as well; any
+   *        exception other than an ArithmeticException both sides share is itself a mismatch
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static String mismatch( String op, BigInteger x, BigInteger y, BrobInt a, BrobInt b ) {
+      String expected;
+      String actual;
+      try {
+         final int  small   = y.abs().mod( BigInteger.valueOf( 400 ) ).intValue() * y.signum();
+         final boolean cheap = x.bitLength() < EXPENSIVE_DIGITS * 3.33 && y.bitLength() < EXPENSIVE_DIGITS * 3.33;
+         switch ( op ) {
+            case "parse":
+               expected = x + " " + y;
+               actual   = a + " " + b;
+               break;
+            case "compareTo":
+               expected = x.compareTo( y ) + " " + y.compareTo( x ) + " " + x.compareTo( x );
+               actual   = a.compareTo( b ) + " " + b.compareTo( a ) + " " + a.compareTo( a );
+               break;
+            case "equals":
+               expected = x.equals( y ) + " true true";
+               actual   = a.equals( b ) + " " + a.equals( new BrobInt( x.toString() ) ) + " " +
+                          (!a.equals( b ) || a.hashCode() == b.hashCode());
+               break;
+            case "negate":
+               expected = x.negate().toString();
+               actual   = a.negate().toString();
+               break;
+            case "valueOf":
+               if ( x.bitLength() >= 64 ){
+                  return null;
+               }
+               expected = x.toString();
+               actual   = BrobInt.valueOf( x.longValue() ).toString();
+               break;
+            case "addByte":
+               expected = x.add( y ).toString();
+               actual   = a.addByte( b ).toString();
+               break;
+            case "addInt":
+               expected = x.add( y ).toString();
+               actual   = a.addInt( b ).toString();
+               break;
+            case "subtractByte":
+               expected = x.subtract( y ).toString();
+               actual   = a.subtractByte( b ).toString();
+               break;
+            case "subtractInt":
+               expected = x.subtract( y ).toString();
+               actual   = a.subtractInt( b ).toString();
+               break;
+            case "multiply":
+               expected = x.multiply( y ) + " " + x.multiply( x );
+               actual   = a.multiply( b ) + " " + a.multiply( a );
+               break;
+            case "divide":
+               expected = outcome( () -> x.divide( y ) );
+               actual   = outcome( () -> a.divide( b ) );
+               break;
+            case "remainder":
+               expected = outcome( () -> x.remainder( y ) );
+               actual   = outcome( () -> a.remainder( b ) );
+               break;
+            case "divRem":
+               expected = outcome( () -> { BigInteger[] qr = x.divideAndRemainder( y ); return qr[0] + " " + qr[1]; } );
+               actual   = outcome( () -> { BrobInt[]    qr = a.divRem( b );             return qr[0] + " " + qr[1]; } );
+               break;
+            case "pow":
+               if ( x.bitLength() > POW_DIGITS * 3.33 ){
+                  return null;
+               }
+               expected = outcome( () -> { if ( small < 0 ) throw new ArithmeticException(); return x.pow( small % 8 ); } );
+               actual   = outcome( () -> a.pow( (small < 0) ? small : small % 8 ) );
+               break;
+            case "modPow":
+               if ( x.bitLength() > MOD_POW_DIGITS * 3.33 || y.bitLength() > MOD_POW_DIGITS * 3.33 ){
+                  return null;
+               }
+               expected = outcome( () -> x.modPow( x.abs(), y ) );
+               actual   = outcome( () -> a.modPow( a.getSign() == 1 ? a.negate() : a, b ) );
+               break;
+            case "sqrt":
+               if ( !cheap ){
+                  return null;
+               }
+               expected = outcome( () -> x.sqrt() );
+               actual   = outcome( () -> a.sqrt() );
+               break;
+            case "nthRoot":
+               if ( !cheap ){
+                  return null;
+               }
+               final int n = 1 + Math.abs( small ) % 6;
+               expected = outcome( () -> {
+                  if ( x.signum() < 0 && n % 2 == 0 ) throw new ArithmeticException();
+                  return "ok";
+               } );
+               actual   = outcome( () -> {
+                  BigInteger r = new BigInteger( a.nthRoot( n ).toString() );
+                  boolean ok = r.signum() * x.signum() >= 0 && r.abs().pow( n ).compareTo( x.abs() ) <= 0 &&
+                               r.abs().add( BigInteger.ONE ).pow( n ).compareTo( x.abs() ) > 0;
+                  return ok ? "ok" : "root " + r + " for n = " + n;
+               } );
+               break;
+            case "gcd":
+               if ( !cheap ){
+                  return null;
+               }
+               expected = x.gcd( y ).toString();
+               actual   = a.gcd( b ).toString();
+               break;
+            case "extendedGcd":
+               if ( !cheap ){
+                  return null;
+               }
+               BrobInt[] e = a.extendedGcd( b );
+               expected = x.gcd( y ) + " " + x.gcd( y );
+               actual   = e[0] + " " + x.multiply( new BigInteger( e[1].toString() ) ).add( y.multiply( new BigInteger( e[2].toString() ) ) );
+               break;
+            case "shiftLeft":
+               expected = x.shiftLeft( small ).toString();
+               actual   = a.shiftLeft( small ).toString();
+               break;
+            case "shiftRight":
+               expected = x.shiftRight( small ).toString();
+               actual   = a.shiftRight( small ).toString();
+               break;
+            case "testBit":
+               expected = outcome( () -> x.testBit( small ) );
+               actual   = outcome( () -> a.testBit( small ) );
+               break;
+            case "bitLength":
+               expected = x.bitLength() + " " + y.bitLength();
+               actual   = a.bitLength() + " " + b.bitLength();
+               break;
+            case "and":
+               if ( !cheap ){
+                  return null;
+               }
+               expected = x.and( y ).toString();
+               actual   = a.and( b ).toString();
+               break;
+            case "or":
+               if ( !cheap ){
+                  return null;
+               }
+               expected = x.or( y ).toString();
+               actual   = a.or( b ).toString();
+               break;
+            case "xor":
+               if ( !cheap ){
+                  return null;
+               }
+               expected = x.xor( y ).toString();
+               actual   = a.xor( b ).toString();
+               break;
+            case "not":
+               expected = x.not().toString();
+               actual   = a.not().toString();
+               break;
+            case "serialize":
+               BrobInt copy = BrobInt.fromByteArray( a.toByteArray() );
+               expected = x + " true";
+               actual   = copy + " " + (copy.equals( a ) && copy.hashCode() == a.hashCode());
+               break;
+            case "builder":
+               expected = x.add( y ).multiply( y ).subtract( x ).toString();
+               actual   = new BrobIntBuilder( a ).addInPlace( b ).multiplyInPlace( b ).subtractInPlace( a ).toBrobInt().toString();
+               break;
+            default:
+               throw new IllegalArgumentException( "\n         Sorry, there is no operation named " + op + "." );
+         }
+      }
+      catch( RuntimeException e ) {
+         return "threw " + e.toString().replace( "\n", " " ).replaceAll( " +", " " );
+      }
+      if ( expected.equals( actual ) ){
+         return null;
+      }
+      return "expected " + expected + "\n          but got  " + actual;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to list the smaller operands tried in place of one that fails
+   *  @param  s         the operand as text
+   *  @return String[]  candidates, each still a valid integer, roughly from most to least shrinking
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static String[] shrinkCandidates( String s ) {
+      String sign   = (s.startsWith( "-" ) || s.startsWith( "+" )) ? s.substring( 0, 1 ) : "";
+      String digits = s.substring( sign.length() );
+      ArrayList<String> out = new ArrayList<String>();
+      if ( digits.length() > 1 ){
+         out.add( sign + digits.substring( 0, digits.length() / 2 ) );
+         out.add( sign + digits.substring( digits.length() / 2 ) );
+         out.add( sign + digits.substring( 1 ) );
+         out.add( sign + digits.substring( 0, digits.length() - 1 ) );
+      }
+      if ( sign.length() > 0 ){
+         out.add( digits );
+      }
+      for ( int i = 0; i < digits.length(); i++ ){
+         if ( digits.charAt( i ) != '0' ){
+            out.add( sign + digits.substring( 0, i ) + "0" + digits.substring( i + 1 ) );
+            if ( digits.charAt( i ) != '1' ){
+               out.add( sign + digits.substring( 0, i ) + "1" + digits.substring( i + 1 ) );
+            }
+         }
+      }
+      return out.toArray( new String[0] );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to shrink a failing pair of operands until no single step keeps it failing
+   *  @param  op        name of the operation that failed
+   *  @param  aString   the first operand as text
+   *  @param  bString   the second operand as text
+   *  @return String[]  the smallest pair found that still fails the same operation
+   *  NOTE: greedy; the first candidate that still fails is taken and the search starts over from it,
+   *        so the result is a local minimum, which in practice is a handful of digits
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static String[] shrink( String op, String aString, String bString ) {
+      int steps = 0;
+      boolean shrunk = true;
+      while ( shrunk && steps < MAX_SHRINK_STEPS ){
+         shrunk = false;
+         for ( String candidate : shrinkCandidates( aString ) ){
+            if ( ++steps < MAX_SHRINK_STEPS && mismatch( op, candidate, bString ) != null ){
+               aString = candidate;
+               shrunk  = true;
+               break;
+            }
+         }
+         for ( String candidate : shrinkCandidates( bString ) ){
+            if ( ++steps < MAX_SHRINK_STEPS && mismatch( op, aString, candidate ) != null ){
+               bString = candidate;
+               shrunk  = true;
+               break;
+            }
+         }
+      }
+      return new String[] { aString, bString };
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to force every multiply and divide tier on at small sizes, so a case a few hundred digits
+   *   long goes through the Toom-Cook, NTT and Newton code that would otherwise need huge operands
+   *  @param  low  true to lower the thresholds, false to put the saved ones back
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void lowTiers( boolean low ) {
+      if ( low ){
+         BrobInt.setMultiplyThresholds( 2, 6 );
+         BrobInt.setNttThreshold( 24 );
+         BrobInt.setNewtonThreshold( 17 );
+      } else {
+         BrobInt.setMultiplyThresholds( savedKaratsuba, savedToomCook );
+         BrobInt.setNttThreshold( savedNtt );
+         BrobInt.setNewtonThreshold( savedNewton );
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to shrink a failure and print it with the seed that reproduces it
+   *  @param  op        name of the operation that failed
+   *  @param  caseSeed  seed of the case it failed on
+   *  @param  low       whether the thresholds were lowered for the case
+   *  @param  aString   the first operand as text
+   *  @param  bString   the second operand as text
+   *  @return int       one, for the failure count
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static int report( String op, long caseSeed, boolean low, String aString, String bString ) {
+      String[] smallest = shrink( op, aString, bString );
+      System.out.println( String.format( "\n    FAILED %s on case seed %d%s:", op, caseSeed,
+                                         low ? " [thresholds lowered]" : "" ) );
+      System.out.println( "          a = " + smallest[0] + "\n          b = " + smallest[1] );
+      System.out.println( "          " + mismatch( op, smallest[0], smallest[1] ) );
+      return 1;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to run every operation on the case drawn from one seed, and report any that fail
+   *  @param  caseSeed  seed for this case alone
+   *  @return int       how many operations failed
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static int runCase( long caseSeed ) {
+      Random  rng     = new Random( caseSeed );
+      String  aString = randomOperand( rng );
+      String  bString = (rng.nextInt( 16 ) == 0) ? aString : randomOperand( rng );
+      boolean low     = rng.nextInt( LOW_TIER_ODDS ) == 0;
+      int failures = 0;
+      lowTiers( low );
+      try {
+         if ( mismatch( "parse", aString, bString ) != null ){
+            return report( "parse", caseSeed, low, aString, bString );
+         }
+         BigInteger x = new BigInteger( aString );
+         BigInteger y = new BigInteger( bString );
+         BrobInt    a = new BrobInt( aString );
+         BrobInt    b = new BrobInt( bString );
+         for ( String op : OPERATIONS ) {
+            if ( mismatch( op, x, y, a, b ) != null ){
+               failures += report( op, caseSeed, low, aString, bString );
+            }
+         }
+      }
+      finally {
+         lowTiers( false );
+      }
+      return failures;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  the main method runs the cases and exits non-zero if any failed, so a build script can stop on it
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void main( String[] args ) {
+      int     cases   = DEFAULT_CASES;
+      long    seed    = System.nanoTime();
+      Long    oneCase = null;
+      try {
+         for ( int i = 0; i < args.length; i++ ){
+            switch ( args[i] ) {
+               case "--cases":  cases     = Integer.parseInt( args[++i] ); break;
+               case "--seed":   seed      = Long.parseLong( args[++i] );    break;
+               case "--digits": maxDigits = Integer.parseInt( args[++i] ); break;
+               case "--case":   oneCase   = Long.parseLong( args[++i] );    break;
+               default:         throw new IllegalArgumentException( args[i] );
+            }
+         }
+         if ( cases < 0 || maxDigits < 1 ){
+            throw new IllegalArgumentException();
+         }
+      }
+      catch( RuntimeException e ) {
+         System.out.println( usageMessage );
+         System.exit( BAD_CMD_LINE_ARG );
+      }
+      savedKaratsuba = BrobInt.getKaratsubaThreshold();
+      savedToomCook  = BrobInt.getToomCookThreshold();
+      savedNtt       = BrobInt.getNttThreshold();
+      savedNewton    = BrobInt.getNewtonThreshold();
+
+      if ( oneCase != null ){
+         int failures = runCase( oneCase );
+         System.out.println( "\n    case seed " + oneCase + ": " + failures + " failures" );
+         System.exit( (failures == 0) ? 0 : TESTS_FAILED );
+      }
+
+      System.out.println( "\n\n    DIFFERENTIAL TESTING AGAINST BIGINTEGER:\n" +
+                          "    ========================================" );
+      System.out.println( "      " + cases + " cases, " + (OPERATIONS.length + 1) + " operations each, operands up to " +
+                          maxDigits + " digits, run seed " + seed );
+      Random master    = new Random( seed );
+      int    failures  = 0;
+      int    failed    = 0;
+      long   startTime = System.nanoTime();
+      for ( int i = 0; i < cases && failed < MAX_FAILURES; i++ ){
+         int caseFailures = runCase( master.nextLong() );
+         failures += caseFailures;
+         failed   += (caseFailures > 0) ? 1 : 0;
+      }
+      System.out.println( String.format( "\n      %d failures in %d failing cases, %.1f seconds", failures, failed,
+                                         (System.nanoTime() - startTime) / 1e9 ) );
+      System.exit( (failures == 0) ? 0 : TESTS_FAILED );
+   }
+}
@@ -0,0 +1,222 @@
+/** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * File name  :  BrobIntStore.java
+ * Purpose    :  Holder that keeps a giant BrobInt off the Java heap, in a memory-mapped temporary file,
+ *                 between the stages of a long computation
+ * @author    :  Kevin McInerney
+ * Date       :  2026-10-18
+ * Description:  @see <a href='http://bjohnson.lmu.build/cmsi186web/homework06.html'>Assignment Page</a>
+ * Notes      :  Values at or above the spill threshold (-Dbrobint.spillBytes, 8 MB of binary form by
+ *                 default) are written in BrobInt's binary form to a mapped file; smaller ones just stay
+ *                 on the heap.  Output, comparison and the sign are worked out straight from the mapped
+ *                 limbs; arithmetic needs load(), since BrobInt's kernels all run on heap arrays.
+ *                 Fibonacci passes its result through of(), so a result past the threshold spills on
+ *                 its own and is written out from the mapping
+ * Warnings   :  close() deletes the file, or leaves it for JVM exit where the platform won't delete a
+ *                 mapped file; a store must not be used after it is closed
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Revision History
+ * ================
+ *   Ver      Date     Modified by:  Reason for change or modification
+ *  -----  ----------  ------------  ---------------------------------------------------------------------
+ *  1.0.0  2026-10-18  K. McInerney  Initial writing and release
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class BrobIntStore implements Comparable<BrobIntStore>, AutoCloseable {
+
+   private static final int HEADER_BYTES = 4;            // size of the binary form's header
+
+  /// Values whose binary form is at least this many bytes go to a mapped file
+   private static volatile long spillBytes = Long.getLong( "brobint.spillBytes", 1L << 23 );
+
+  /// These are the internal fields; exactly one of value and mapped is set
+   private final BrobInt    value;      // the value, when it stays on the heap
+   private final ByteBuffer mapped;     // read-only little-endian view of the binary form, when spilled
+   private final Path       file;       // the temporary file behind mapped
+
+  /**
+   *  Constructor for a value that stays on the heap
+   *  @param  value  the value
+   */
+   private BrobIntStore( BrobInt value ) {
+      this.value  = value;
+      this.mapped = null;
+      this.file   = null;
+   }
+
+  /**
+   *  Constructor for a value that has been spilled to a mapped file
+   *  @param  mapped  the mapping, holding the binary form from position zero
+   *  @param  file    the file being mapped
+   */
+   private BrobIntStore( ByteBuffer mapped, Path file ) {
+      this.value  = null;
+      this.mapped = mapped.asReadOnlyBuffer().order( ByteOrder.LITTLE_ENDIAN );
+      this.file   = file;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to store a BrobInt, spilling it to a mapped temporary file if it is at least the spill
+   *   threshold and keeping it on the heap otherwise
+   *  @param  value  the value to store
+   *  @return BrobIntStore  holding the value
+   *  @throws IOException if the temporary file can't be made or mapped
+   *  NOTE: the file is mapped, filled with one bulk copy of the limbs and its channel closed again;
+   *        the mapping stays valid without the channel and lives in the page cache, not the heap
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static BrobIntStore of( BrobInt value ) throws IOException {
+      int size = value.serializedSize();
+      if ( size < spillBytes ){
+         return new BrobIntStore( value );
+      }
+      Path file = Files.createTempFile( "brobint", ".bin" );
+      file.toFile().deleteOnExit();
+      try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ, StandardOpenOption.WRITE ) ) {
+         MappedByteBuffer mapping = channel.map( FileChannel.MapMode.READ_WRITE, 0, size );
+         value.writeTo( mapping );
+         mapping.rewind();
+         return new BrobIntStore( mapping, file );
+      }
+      catch( IOException e ) {
+         Files.deleteIfExists( file );
+         throw e;
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to tell whether the value held is off the heap
+   *  @return boolean  that is true if it was spilled to a mapped file
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public boolean isOffHeap() {
+      return mapped != null;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to bring the value held back as a BrobInt to do arithmetic with
+   *  @return BrobInt  the value; a spilled one is read from the mapping with one bulk copy
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt load() {
+      return (mapped == null) ? value : BrobInt.readFrom( mapped.duplicate() );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the sign of the value held, without loading it
+   *  @return int  "0" if positive or zero, "1" if negative, the same as BrobInt.getSign()
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int getSign() {
+      return (mapped == null) ? value.getSign() : mapped.getInt( 0 ) & 1;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to compare the value held to another store's by numeric value, without loading either
+   *  @param  other  store to compare to this
+   *  @return int   that is -1/0/1 if this value is less than/equal to/greater than the other one
+   *  NOTE: the same order as BrobInt.compareTo(): sign, then limb count, then limbs from the top
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int compareTo( BrobIntStore other ) {
+      int sign = getSign();
+      if ( sign != other.getSign() ){
+         return (sign == 1) ? -1 : 1;
+      }
+      int length = limbCount();
+      int magnitude = Integer.compare( length, other.limbCount() );
+      for ( int i = length - 1; i >= 0 && magnitude == 0; i-- ){
+         magnitude = Integer.compare( limb( i ), other.limb( i ) );
+      }
+      return (sign == 1) ? -magnitude : magnitude;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to count the decimal digits of the value held, without loading it
+   *  @return int  the number of digits, not counting a minus sign; zero has one
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int digitCount() {
+      int length = limbCount();
+      return BrobInt.digitCountOf( length, (length == 0) ? 0 : limb( length - 1 ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to write the decimal representation of the value held to a byte stream, without loading it
+   *  @param  out  where to send the ASCII digits; it is flushed but not closed, as BrobInt.writeTo() does
+   *  @throws IOException if the stream does
+   *  NOTE: both kinds of store go through BrobInt.writeLimbs(), which formats a chunk of limbs at a
+   *        time; a spilled value's limbs are read straight from the mapping
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public void writeTo( OutputStream out ) throws IOException {
+      Writer writer = new OutputStreamWriter( out, StandardCharsets.US_ASCII );
+      BrobInt.writeLimbs( writer, getSign(), limbCount(), this::limb );
+      writer.flush();
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return a String representation of the value held
+   *  @return String  the same as load().toString()
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public String toString() {
+      return load().toString();
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to delete the temporary file behind a spilled value; does nothing for a heap value
+   *  NOTE: Java has no call to unmap a buffer, so the pages go once the store is garbage collected.
+   *        Windows won't delete a file that is still mapped; then the delete is left to the
+   *        deleteOnExit() that of() registered, rather than failing the close
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public void close() {
+      if ( file != null ){
+         try {
+            Files.deleteIfExists( file );
+         }
+         catch( IOException e ) {
+            // still mapped; removed when the JVM exits instead
+         }
+      }
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to set the size at which values spill to a mapped file
+   *  @param  bytes  smallest binary form, in bytes, that spills; zero spills every value
+   *  @throws IllegalArgumentException if the size is negative
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void setSpillThreshold( long bytes ) {
+      if ( bytes < 0 ){
+         throw new IllegalArgumentException( "\n         Sorry, the spill threshold can't be negative." );
+      }
+      spillBytes = bytes;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to get the size at which values spill to a mapped file
+   *  @return long  smallest binary form, in bytes, that spills
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static long getSpillThreshold() {
+      return spillBytes;
+   }
+
+  /**
+   *  Returns the number of limbs in the value held
+   */
+   private int limbCount() {
+      return (mapped == null) ? value.magnitude().length : mapped.getInt( 0 ) >>> 1;
+   }
+
+  /**
+   *  Returns one limb of the value held, the lowest being limb zero
+   */
+   private int limb( int i ) {
+      return (mapped == null) ? value.magnitude()[i] : mapped.getInt( HEADER_BYTES + (i * Integer.BYTES) );
+   }
+}
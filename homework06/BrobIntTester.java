@@ -20,6 +20,15 @@
  *                                     additions; ready to start subtractByte and subtractInt methods
  *
  *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.TreeMap;
 
 public class BrobIntTester {
 
@@ -67,6 +76,51 @@ public class BrobIntTester {
       super();
    }
 
+  /**
+   *  Method to make a random decimal string for the randomized tests; about one in four comes out as
+   *   all nines so that carries run across every limb boundary
+   *  @param  rng        random number generator to draw from
+   *  @param  maxDigits  longest string to make, not counting the sign
+   *  @return String  with an optional leading minus sign
+   */
+   private static String randomDigitString( Random rng, int maxDigits ) {
+      int digits = 1 + rng.nextInt( maxDigits );
+      boolean allNines = rng.nextInt( 4 ) == 0;
+      StringBuilder sb = new StringBuilder();
+      if ( rng.nextBoolean() ) {
+         sb.append( '-' );
+      }
+      for ( int i = 0; i < digits; i++ ) {
+         sb.append( allNines ? '9' : (char)('0' + rng.nextInt( 10 )) );
+      }
+      return sb.toString();
+   }
+
+  /**
+   *  Method to multiply random pairs with BrobInt and with BigInteger and count the disagreements
+   *  @param  seed       seed for the random operands, printed with any mismatch so it can be replayed
+   *  @param  pairs      how many products to check
+   *  @param  maxDigits  longest operand to make
+   *  @param  square     true to multiply each value by itself, which takes the squaring path
+   *  @return int  the number of products that did not match
+   */
+   private static int randomMultiplyMismatches( long seed, int pairs, int maxDigits, boolean square ) {
+      Random rng = new Random( seed );
+      int mismatches = 0;
+      for ( int i = 0; i < pairs; i++ ) {
+         String a = randomDigitString( rng, maxDigits );
+         String b = square ? a : randomDigitString( rng, maxDigits );
+         BrobInt ga = new BrobInt( a );
+         BrobInt gb = square ? ga : new BrobInt( b );
+         String expected = new BigInteger( a ).multiply( new BigInteger( b ) ).toString();
+         if ( !ga.multiply( gb ).toString().equals( expected ) ) {
+            System.out.println( "        mismatch at seed " + seed + ", pair " + i );
+            mismatches++;
+         }
+      }
+      return mismatches;
+   }
+
    public static void main( String[] args ) {
       BrobIntTester git = new BrobIntTester();
 
@@ -603,6 +657,498 @@ public class BrobIntTester {
       }
       catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
 
+      System.out.println( "\n\n    TESTING LARGE MULTIPLY() AGAINST BIGINTEGER:\n" +
+                          "    ============================================" );
+      System.out.println( "\n      Test 060: Multiplying 300 random pairs with every multiply tier forced on early: " );
+      int karatsuba = BrobInt.getKaratsubaThreshold();
+      int toomCook  = BrobInt.getToomCookThreshold();
+      int ntt       = BrobInt.getNttThreshold();
+      try {
+         BrobInt.setMultiplyThresholds( 2, 6 );
+         BrobInt.setNttThreshold( 24 );
+         System.out.println( "      expecting: 0 mismatches\n" +
+                             "        and got: " + randomMultiplyMismatches( 60L, 300, 2000, false ) + " mismatches" );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+      finally {
+         BrobInt.setMultiplyThresholds( karatsuba, toomCook );
+         BrobInt.setNttThreshold( ntt );
+      }
+
+      System.out.println( "\n      Test 061: Multiplying 20 random pairs of up to 50000 digits [NTT sized]: " );
+      try {
+         System.out.println( "      expecting: 0 mismatches\n" +
+                             "        and got: " + randomMultiplyMismatches( 61L, 20, 50000, false ) + " mismatches" );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 062: Squaring 20 random values of up to 50000 digits: " );
+      try {
+         System.out.println( "      expecting: 0 mismatches\n" +
+                             "        and got: " + randomMultiplyMismatches( 62L, 20, 50000, true ) + " mismatches" );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING DIVREM() METHOD:\n" +
+                          "    ========================" );
+      System.out.println( "\n      Test 063: Dividing 10^30 by -7 with divRem [quotient and remainder]: " );
+      try {
+         BrobInt big   = new BrobInt( "1000000000000000000000000000000" );
+         BrobInt seven = new BrobInt( "-7" );
+         BrobInt[] qr  = big.divRem( seven );
+         System.out.println( "      expecting: -142857142857142857142857142857 and 1\n" +
+                             "        and got: " + qr[0] + " and " + qr[1] );
+         System.out.println( "      expecting operands unchanged: 1000000000000000000000000000000 and -7\n" +
+                             "                           and got: " + big + " and " + seven );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 064: Dividing g1 by g4 [too long to list] and checking q * g4 + r == g1: " );
+      try {
+         BrobInt[] qr = g1.divRem( g4 );
+         System.out.println( "      expecting: " + g1 + "\n" +
+                             "        and got: " + qr[0].multiply( g4 ).addInt( qr[1] ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING PARALLEL MULTIPLY() AGAINST BIGINTEGER:\n" +
+                          "    ===============================================" );
+      System.out.println( "\n      Test 065: Multiplying 300 random pairs on four threads with every tier forked early: " );
+      int parallelThreshold = BrobInt.getParallelThreshold();
+      try {
+         BrobInt.parallelism( 4 );
+         BrobInt.setParallelThreshold( 2 );
+         BrobInt.setMultiplyThresholds( 2, 6 );
+         BrobInt.setNttThreshold( 24 );
+         System.out.println( "      expecting: 0 mismatches\n" +
+                             "        and got: " + randomMultiplyMismatches( 65L, 300, 2000, false ) + " mismatches" );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+      finally {
+         BrobInt.parallelism( 1 );
+         BrobInt.setParallelThreshold( parallelThreshold );
+         BrobInt.setMultiplyThresholds( karatsuba, toomCook );
+         BrobInt.setNttThreshold( ntt );
+      }
+
+      System.out.println( "\n\n    TESTING NEGATE() METHOD:\n" +
+                          "    ========================" );
+      System.out.println( "\n      Test 066: Negating -7 and ZERO [results, then the operands afterwards]: " );
+      try {
+         BrobInt seven = new BrobInt( "-7" );
+         System.out.println( "      expecting: 7 and 0\n" +
+                             "        and got: " + seven.negate() + " and " + BrobInt.ZERO.negate() );
+         System.out.println( "      expecting operands unchanged: -7 and 0\n" +
+                             "                           and got: " + seven + " and " + BrobInt.ZERO );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING VALUEOF() CACHE AND LONG FAST PATHS:\n" +
+                          "    ============================================" );
+      System.out.println( "\n      Test 067: Checking valueOf( 5 ) is FIVE and valueOf( -1024 ) is shared: " );
+      try {
+         System.out.println( "      expecting: true and true\n" +
+                             "        and got: " + (BrobInt.valueOf( 5 ) == BrobInt.FIVE) + " and " +
+                             (BrobInt.valueOf( -1024 ) == BrobInt.valueOf( -1024 )) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 068: Computing MAX_LONG + MAX_LONG and MIN_LONG * MIN_LONG [overflowing a long]: " );
+      try {
+         System.out.println( "      expecting: 18446744073709551614 and 85070591730234615865843651857942052864\n" +
+                             "        and got: " + BrobInt.MAX_LONG.addInt( BrobInt.MAX_LONG ) + " and " +
+                             BrobInt.MIN_LONG.multiply( BrobInt.MIN_LONG ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING BROBINTBUILDER CLASS:\n" +
+                          "    =============================" );
+      System.out.println( "\n      Test 069: Starting at 999999999, adding 1, subtracting 2000000000, multiplying by -3, shifting left 4: " );
+      try {
+         BrobIntBuilder builder = new BrobIntBuilder( new BrobInt( "999999999" ) );
+         builder.addInPlace( BrobInt.ONE ).subtractInPlace( new BrobInt( "2000000000" ) );
+         builder.multiplyInPlace( new BrobInt( "-3" ) ).shiftLeft( 4 );
+         System.out.println( "      expecting: 48000000000\n" +
+                             "        and got: " + builder.toBrobInt() );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 070: Comparing the builder-based linear F(2000) with fast doubling: " );
+      try {
+         System.out.println( "      expecting: true\n" +
+                             "        and got: " + Fibonacci.computeLinear( 2000 ).equals( Fibonacci.compute( 2000 ) ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING POW() AND MODPOW() METHODS:\n" +
+                          "    ===================================" );
+      System.out.println( "\n      Test 071: Raising 2 to the 100th and -3 to the 5th: " );
+      try {
+         System.out.println( "      expecting: 1267650600228229401496703205376 and -243\n" +
+                             "        and got: " + BrobInt.TWO.pow( 100 ) + " and " + new BrobInt( "-3" ).pow( 5 ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 072: Computing 4^13 mod 497 and (-7)^12345678901234567890 mod 100000000000000000039: " );
+      try {
+         System.out.println( "      expecting: 445 and 29828845740691576486\n" +
+                             "        and got: " + BrobInt.FOUR.modPow( new BrobInt( "13" ), new BrobInt( "497" ) ) + " and " +
+                             new BrobInt( "-7" ).modPow( new BrobInt( "12345678901234567890" ), new BrobInt( "100000000000000000039" ) ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING SQRT() AND NTHROOT() METHODS:\n" +
+                          "    =====================================" );
+      System.out.println( "\n      Test 073: Square roots of 10^40 and 99: " );
+      try {
+         System.out.println( "      expecting: 100000000000000000000 and 9\n" +
+                             "        and got: " + new BrobInt( "10000000000000000000000000000000000000000" ).sqrt() +
+                             " and " + new BrobInt( "99" ).sqrt() );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 074: Cube root of -1000 and fifth root of 2^500: " );
+      try {
+         System.out.println( "      expecting: -10 and 1267650600228229401496703205376\n" +
+                             "        and got: " + new BrobInt( "-1000" ).nthRoot( 3 ) + " and " + BrobInt.TWO.pow( 500 ).nthRoot( 5 ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING GCD() AND EXTENDEDGCD() METHODS:\n" +
+                          "    ========================================" );
+      System.out.println( "\n      Test 075: Gcd of 2^100 * 3^60 and -(2^80 * 3^7 * 5^40): " );
+      try {
+         BrobInt g1 = BrobInt.TWO.pow( 100 ).multiply( BrobInt.THREE.pow( 60 ) );
+         BrobInt g2 = BrobInt.TWO.pow( 80 ).multiply( BrobInt.THREE.pow( 7 ) ).multiply( BrobInt.FIVE.pow( 40 ) ).negate();
+         System.out.println( "      expecting: 2643920767497194005082406912\n" +
+                             "        and got: " + g1.gcd( g2 ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 076: Extended gcd of 240 and -46, checking 240x + -46y: " );
+      try {
+         BrobInt e1 = new BrobInt( "240" );
+         BrobInt e2 = new BrobInt( "-46" );
+         BrobInt[] gxy = e1.extendedGcd( e2 );
+         System.out.println( "      expecting: 2 and 2\n" +
+                             "        and got: " + gxy[0] + " and " + e1.multiply( gxy[1] ).addInt( e2.multiply( gxy[2] ) ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING SHIFT AND BITWISE METHODS:\n" +
+                          "    ==================================" );
+      System.out.println( "\n      Test 077: Shifting -123456789012345678901234567890 left by 70 and right by 70: " );
+      try {
+         BrobInt s1 = new BrobInt( "-123456789012345678901234567890" );
+         System.out.println( "      expecting: -145752050628652680975897013633443949312730317455360 and -104571968\n" +
+                             "        and got: " + s1.shiftLeft( 70 ) + " and " + s1.shiftRight( 70 ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 078: And, xor and bitLength of 2^100 + 12345 and -(2^64) + 7: " );
+      try {
+         BrobInt b1 = BrobInt.TWO.pow( 100 ).addInt( new BrobInt( "12345" ) );
+         BrobInt b2 = BrobInt.TWO.pow( 64 ).negate().addInt( BrobInt.SEVEN );
+         System.out.println( "      expecting: 1267650600228229401496703205377 and -1267650600246676145570412744642 and 101 and 64\n" +
+                             "        and got: " + b1.and( b2 ) + " and " + b1.xor( b2 ) + " and " + b1.bitLength() + " and " + b2.bitLength() );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING NUMERIC COMPARETO(), EQUALS() AND HASHCODE():\n" +
+                          "    =====================================================" );
+      System.out.println( "\n      Test 079: Comparing 9 to 10, -5 to 3 and -20 to -3: " );
+      try {
+         System.out.println( "      expecting: -1 and -1 and -1\n" +
+                             "        and got: " + BrobInt.NINE.compareTo( BrobInt.TEN ) + " and " +
+                             new BrobInt( "-5" ).compareTo( BrobInt.THREE ) + " and " +
+                             new BrobInt( "-20" ).compareTo( new BrobInt( "-3" ) ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 080: Looking up equal BrobInts built two ways in a HashMap and a TreeMap: " );
+      try {
+         HashMap<BrobInt, String> hashed = new HashMap<BrobInt, String>();
+         TreeMap<BrobInt, String> sorted = new TreeMap<BrobInt, String>();
+         hashed.put( BrobInt.TWO.pow( 100 ), "2^100" );
+         sorted.put( BrobInt.TWO.pow( 100 ), "2^100" );
+         sorted.put( BrobInt.NINE, "9" );
+         sorted.put( BrobInt.TEN.negate(), "-10" );
+         BrobInt key = new BrobInt( "1267650600228229401496703205376" );
+         System.out.println( "      expecting: 2^100 and 2^100 and [-10, 9, 2^100]\n" +
+                             "        and got: " + hashed.get( key ) + " and " + sorted.get( key ) + " and " + sorted.values() );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING BINARY SERIALIZATION:\n" +
+                          "    =============================" );
+      System.out.println( "\n      Test 081: Round trip of -(3^200) through toByteArray() and fromByteArray(): " );
+      try {
+         BrobInt r1 = BrobInt.THREE.pow( 200 ).negate();
+         byte[] bytes = r1.toByteArray();
+         System.out.println( "      expecting: true and 48 bytes\n" +
+                             "        and got: " + r1.equals( BrobInt.fromByteArray( bytes ) ) + " and " + bytes.length + " bytes" );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 082: Writing 0, 10^30 and -7 back to back into one ByteBuffer and reading them out: " );
+      try {
+         ByteBuffer buffer = ByteBuffer.allocateDirect( 64 );
+         BrobInt.ZERO.writeTo( buffer );
+         BrobInt.TEN.pow( 30 ).writeTo( buffer );
+         BrobInt.SEVEN.negate().writeTo( buffer );
+         buffer.flip();
+         System.out.println( "      expecting: 0 1000000000000000000000000000000 -7 and 0 bytes left\n" +
+                             "        and got: " + BrobInt.readFrom( buffer ) + " " + BrobInt.readFrom( buffer ) + " " +
+                             BrobInt.readFrom( buffer ) + " and " + buffer.remaining() + " bytes left" );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING BROBINTSTORE CLASS:\n" +
+                          "    ===========================" );
+      long spillThreshold = BrobIntStore.getSpillThreshold();
+      System.out.println( "\n      Test 083: Spilling -(7^5000) to a mapped file and loading it back: " );
+      try {
+         BrobIntStore.setSpillThreshold( 0 );
+         BrobInt st1 = BrobInt.SEVEN.pow( 5000 ).negate();
+         try ( BrobIntStore store = BrobIntStore.of( st1 ) ) {
+            System.out.println( "      expecting: true and true and 1\n" +
+                                "        and got: " + store.isOffHeap() + " and " + st1.equals( store.load() ) + " and " + store.getSign() );
+         }
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+      finally { BrobIntStore.setSpillThreshold( spillThreshold ); }
+
+      System.out.println( "\n      Test 084: Writing and comparing spilled 10^50 + 1 and heap 10^50 without loading: " );
+      try {
+         BrobInt st2 = BrobInt.TEN.pow( 50 ).addInt( BrobInt.ONE );
+         BrobIntStore.setSpillThreshold( 0 );
+         BrobIntStore spilled = BrobIntStore.of( st2 );
+         BrobIntStore.setSpillThreshold( spillThreshold );
+         BrobIntStore onHeap = BrobIntStore.of( BrobInt.TEN.pow( 50 ) );
+         ByteArrayOutputStream digits = new ByteArrayOutputStream();
+         spilled.writeTo( digits );
+         digits.write( ' ' );
+         onHeap.writeTo( digits );
+         System.out.println( "      expecting: 100000000000000000000000000000000000000000000000001 100000000000000000000000000000000000000000000000000 and 1 and false\n" +
+                             "        and got: " + digits + " and " + spilled.compareTo( onHeap ) + " and " + onHeap.isOffHeap() );
+         spilled.close();
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+      finally { BrobIntStore.setSpillThreshold( spillThreshold ); }
+
+      System.out.println( "\n\n    TESTING BROBDECIMAL:\n" +
+                          "    ====================" );
+      System.out.println( "\n      Test 085: Adding, subtracting and multiplying 1234.5 and -0.0067: " );
+      try {
+         BrobDecimal bd1 = new BrobDecimal( "1234.5" );
+         BrobDecimal bd2 = new BrobDecimal( "-0.0067" );
+         System.out.println( "      expecting: 1234.4933 and 1234.5067 and -8.27115\n" +
+                             "        and got: " + bd1.add( bd2 ) + " and " + bd1.subtract( bd2 ) + " and " + bd1.multiply( bd2 ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 086: Dividing 2 by 3 to scale 5 with HALF_UP, DOWN and CEILING, and -2 by 3 with FLOOR: " );
+      try {
+         BrobDecimal bd3 = new BrobDecimal( "2" );
+         BrobDecimal bd4 = new BrobDecimal( "3" );
+         System.out.println( "      expecting: 0.66667 and 0.66666 and 0.66667 and -0.66667\n" +
+                             "        and got: " + bd3.divide( bd4, 5, RoundingMode.HALF_UP ) + " and " +
+                             bd3.divide( bd4, 5, RoundingMode.DOWN ) + " and " + bd3.divide( bd4, 5, RoundingMode.CEILING ) +
+                             " and " + bd3.negate().divide( bd4, 5, RoundingMode.FLOOR ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 087: Dividing 1 by 7 to 40 digits, 1 by 8 exactly, and 2.5 and 3.5 to scale 0 with HALF_EVEN: " );
+      try {
+         BrobDecimal bd5 = new BrobDecimal( "1" );
+         System.out.println( "      expecting: 0.1428571428571428571428571428571428571429 and 0.125 and 2 and 4\n" +
+                             "        and got: " + bd5.divide( new BrobDecimal( "7" ), new MathContext( 40, RoundingMode.HALF_EVEN ) ) +
+                             " and " + bd5.divide( new BrobDecimal( "8" ), MathContext.UNLIMITED ) +
+                             " and " + new BrobDecimal( "2.5" ).setScale( 0, RoundingMode.HALF_EVEN ) +
+                             " and " + new BrobDecimal( "3.5" ).setScale( 0, RoundingMode.HALF_EVEN ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 088: Comparing 2.50 with 2.5, hashing them, and dividing 1 by 3 exactly: " );
+      try {
+         BrobDecimal bd6 = new BrobDecimal( "2.50" );
+         BrobDecimal bd7 = new BrobDecimal( "2.5" );
+         String exact;
+         try {
+            exact = BrobDecimal.ONE.divide( new BrobDecimal( "3" ), MathContext.UNLIMITED ).toString();
+         }
+         catch( ArithmeticException ae ) { exact = "ArithmeticException"; }
+         System.out.println( "      expecting: 0 and true and true and ArithmeticException\n" +
+                             "        and got: " + bd6.compareTo( bd7 ) + " and " + bd6.equals( bd7 ) + " and " +
+                             (bd6.hashCode() == bd7.hashCode()) + " and " + exact );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING BROBRATIONAL:\n" +
+                          "    =====================" );
+      System.out.println( "\n      Test 089: Adding, subtracting, multiplying and dividing 3/4 and -5/6: " );
+      try {
+         BrobRational br1 = new BrobRational( "3/4" );
+         BrobRational br2 = new BrobRational( "5/-6" );
+         System.out.println( "      expecting: -1/12 and 19/12 and -5/8 and -9/10\n" +
+                             "        and got: " + br1.add( br2 ) + " and " + br1.subtract( br2 ) + " and " +
+                             br1.multiply( br2 ) + " and " + br1.divide( br2 ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 090: Comparing 1/3 with 333/1000, and 2/4 with 1/2 without reducing: " );
+      try {
+         BrobRational br3 = new BrobRational( "2/4" );
+         BrobRational br4 = new BrobRational( "1/2" );
+         System.out.println( "      expecting: 1 and true and true and 4\n" +
+                             "        and got: " + new BrobRational( "1/3" ).compareTo( new BrobRational( "333/1000" ) ) + " and " +
+                             br3.equals( br4 ) + " and " + (br3.hashCode() == br4.hashCode()) + " and " + br3.getDenominator() );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 091: Exact distribution of three six-sided dice, adding 1/216 for each roll: " );
+      try {
+         BrobRational[] chance = new BrobRational[19];
+         Arrays.fill( chance, BrobRational.ZERO );
+         BrobRational oneRoll = new BrobRational( BrobInt.ONE, BrobInt.valueOf( 216 ) );
+         for ( int d1 = 1; d1 <= 6; d1++ ){
+            for ( int d2 = 1; d2 <= 6; d2++ ){
+               for ( int d3 = 1; d3 <= 6; d3++ ){
+                  chance[d1 + d2 + d3] = chance[d1 + d2 + d3].add( oneRoll );
+               }
+            }
+         }
+         BrobRational total = BrobRational.ZERO;
+         for ( BrobRational c : chance ){
+            total = total.add( c );
+         }
+         System.out.println( "      expecting: 27/216 and 1/8 and 1/216 and 1\n" +
+                             "        and got: " + chance[10].getNumerator() + "/" + chance[10].getDenominator() + " and " +
+                             chance[10] + " and " + chance[18] + " and " + total );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 092: Harmonic sum to 1/500, reduced lazily and at every step, as a decimal: " );
+      try {
+         BrobRational lazy  = BrobRational.ZERO;
+         BrobRational eager = BrobRational.ZERO;
+         for ( int i = 1; i <= 500; i++ ){
+            BrobRational term = new BrobRational( BrobInt.ONE, BrobInt.valueOf( i ) );
+            lazy  = lazy.add( term );
+            eager = eager.add( term ).normalize();
+         }
+         System.out.println( "      expecting: true and true and 6.79282342999052460298928714536797\n" +
+                             "        and got: " + lazy.equals( eager ) + " and " +
+                             lazy.normalize().getDenominator().equals( eager.getDenominator() ) + " and " +
+                             lazy.toBrobDecimal( 32, RoundingMode.HALF_EVEN ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING NTHROOT() WITH WIDE ROOT INDEXES:\n" +
+                          "    =========================================" );
+      System.out.println( "\n      Test 093: Root of 12345 and -12345 at index Integer.MAX_VALUE: " );
+      try {
+         long start = System.nanoTime();
+         String got = new BrobInt( "12345" ).nthRoot( Integer.MAX_VALUE ) + " and " +
+                      new BrobInt( "-12345" ).nthRoot( Integer.MAX_VALUE );
+         System.out.println( "      expecting: 1 and -1 [well under a second]\n" +
+                             "        and got: " + got + " [" +
+                             ((System.nanoTime() - start) < 1000000000L ? "well under a second" : "too slow") + "]" );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 094: Roots of 12345 [bitLength 14] at indexes 13, 14 and 15: " );
+      try {
+         BrobInt v = new BrobInt( "12345" );
+         System.out.println( "      expecting: 14 and 2 and 1 and 1\n" +
+                             "        and got: " + v.bitLength() + " and " + v.nthRoot( 13 ) + " and " +
+                             v.nthRoot( 14 ) + " and " + v.nthRoot( 15 ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 095: Roots of 2^64 at indexes 63, 64 and 65, and of 2^64 - 1 at index 64: " );
+      try {
+         BrobInt v = BrobInt.TWO.pow( 64 );
+         System.out.println( "      expecting: 2 and 2 and 1 and 1\n" +
+                             "        and got: " + v.nthRoot( 63 ) + " and " + v.nthRoot( 64 ) + " and " +
+                             v.nthRoot( 65 ) + " and " + v.subtractInt( BrobInt.ONE ).nthRoot( 64 ) );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n\n    TESTING BROBINTSTORE CLOSE() METHOD:\n" +
+                          "    ====================================" );
+      System.out.println( "\n      Test 096: Spilling 3^20000, loading it, closing the store twice and using the loaded copy: " );
+      try {
+         BrobIntStore.setSpillThreshold( 0 );
+         BrobInt st3 = BrobInt.valueOf( 3 ).pow( 20000 );
+         BrobIntStore store = BrobIntStore.of( st3 );
+         BrobInt loaded = store.load();
+         store.close();
+         store.close();
+         System.out.println( "      expecting: true and true and 9543\n" +
+                             "        and got: " + store.isOffHeap() + " and " + st3.equals( loaded ) + " and " + loaded.digitCount() );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+      finally { BrobIntStore.setSpillThreshold( spillThreshold ); }
+
+      System.out.println( "\n      Test 097: Counting the digits of spilled -(10^50) and 999999999 and of a heap ZERO without loading: " );
+      try {
+         BrobIntStore.setSpillThreshold( 0 );
+         BrobIntStore big   = BrobIntStore.of( BrobInt.TEN.pow( 50 ).negate() );
+         BrobIntStore nines = BrobIntStore.of( BrobInt.valueOf( 999999999 ) );
+         BrobIntStore.setSpillThreshold( spillThreshold );
+         BrobIntStore zero  = BrobIntStore.of( BrobInt.ZERO );
+         System.out.println( "      expecting: 51 and 9 and 1\n" +
+                             "        and got: " + big.digitCount() + " and " + nines.digitCount() + " and " + zero.digitCount() );
+         big.close();
+         nines.close();
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+      finally { BrobIntStore.setSpillThreshold( spillThreshold ); }
+
+      System.out.println( "\n\n    TESTING TESTBIT() AND SHIFTLEFT() LIMITS:\n" +
+                          "    =========================================" );
+      System.out.println( "\n      Test 098: Every bit of a random 10000-digit value and its negative against BigInteger: " );
+      try {
+         Random bits = new Random( 98 );
+         StringBuilder text = new StringBuilder( "9" );
+         for ( int i = 1; i < 10000; i++ ){
+            text.append( (char)('0' + bits.nextInt( 10 )) );
+         }
+         BrobInt    tb  = new BrobInt( text.toString() );
+         BrobInt    tbn = tb.negate();
+         BigInteger big = new BigInteger( text.toString() );
+         BigInteger bgn = big.negate();
+         int mismatches = 0;
+         long start = System.nanoTime();
+         for ( int i = 0; i < big.bitLength() + 64; i++ ){
+            if ( tb.testBit( i ) != big.testBit( i ) ){
+               mismatches++;
+            }
+            if ( tbn.testBit( i ) != bgn.testBit( i ) ){
+               mismatches++;
+            }
+         }
+         System.out.println( "      expecting: 0 mismatches [well under a second]\n" +
+                             "        and got: " + mismatches + " mismatches [" +
+                             ((System.nanoTime() - start) < 1000000000L ? "well under a second" : "too slow") + "]" );
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
+      System.out.println( "\n      Test 099: Shifting ONE left by Integer.MAX_VALUE [should throw at once]: " );
+      try {
+         long start = System.nanoTime();
+         try {
+            System.out.println( "        and got: " + BrobInt.ONE.shiftLeft( Integer.MAX_VALUE ).bitLength() );
+         }
+         catch( ArithmeticException ae ) {
+            System.out.println( "      expecting: ArithmeticException [well under a second]\n" +
+                                "        and got: ArithmeticException [" +
+                                ((System.nanoTime() - start) < 1000000000L ? "well under a second" : "too slow") + "]" );
+         }
+      }
+      catch( Exception e ) { System.out.println( "        Exception thrown:  " + e.toString() ); }
+
       System.exit( 0 );
 
    }
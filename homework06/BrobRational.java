@@ -0,0 +1,332 @@
+/** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * File name  :  BrobRational.java
+ * Purpose    :  Exact fractions of any size, as a BrobInt numerator and denominator
+ * @author    :  Kevin McInerney
+ * Date       :  2026-10-18
+ * Description:  @see <a href='http://bjohnson.lmu.build/cmsi186web/homework06.html'>Assignment Page</a>
+ * Notes      :  The fraction is not brought to lowest terms after every step: the gcd costs far more
+ *                 than an add, so it is only taken when the numerator and denominator together pass
+ *                 a size limit (-Dbrobrational.normalizeDigits, 256 digits by default), or when
+ *                 normalize() is called.  Each time it is taken the limit moves up to twice the size
+ *                 of the reduced fraction, so a long chain of adds pays for a gcd only each time its
+ *                 terms double, however large they get.  Fractions over the same denominator, like
+ *                 the probabilities of a set of dice, add by adding numerators alone
+ * Warnings   :  getNumerator() and getDenominator() give the terms as they stand, which need not be
+ *                 in lowest terms; call normalize() first if that matters
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Revision History
+ * ================
+ *   Ver      Date     Modified by:  Reason for change or modification
+ *  -----  ----------  ------------  ---------------------------------------------------------------------
+ *  1.0.0  2026-10-18  K. McInerney  Initial writing and release
+ *
+ *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+import java.math.RoundingMode;
+
+public final class BrobRational implements Comparable<BrobRational> {
+
+  /// Fractions whose terms have more digits than this between them are brought to lowest terms
+   private static volatile int normalizeDigits = Math.max( 1, Integer.getInteger( "brobrational.normalizeDigits", 256 ) );
+
+   public static final BrobRational ZERO = new BrobRational( BrobInt.ZERO, BrobInt.ONE, true, 0 );   /// Constant for "zero"
+   public static final BrobRational ONE  = new BrobRational( BrobInt.ONE,  BrobInt.ONE, true, 0 );   /// Constant for "one"
+
+   private final BrobInt numerator;     // carries the sign
+   private final BrobInt denominator;   // always positive
+   private final boolean reduced;       // true if the terms are known to be in lowest terms
+   private final int     limit;         // digits the terms may reach before they are reduced again
+
+  /// hashCode() fills this in the first time it is asked, the same way BrobInt does
+   private int hash;
+
+  /**
+   *  Constructor takes a fraction written as "numerator/denominator", or a whole number on its own,
+   *   with the sign on either term, as in "-3/4", "3/-4" or "12"
+   *  @param  value  String value to make into a BrobRational
+   *  @throws  IllegalArgumentException if something is hinky
+   *  @throws  ArithmeticException if the denominator is zero
+   */
+   public BrobRational( String value ) {
+      this( termsOf( value ) );
+   }
+
+  /**
+   *  Constructor that pairs a numerator with a denominator; the terms are kept as they are, not
+   *   reduced, apart from moving any sign to the numerator
+   *  @param  numerator    the numerator
+   *  @param  denominator  the denominator; not zero
+   *  @throws  ArithmeticException if the denominator is zero
+   */
+   public BrobRational( BrobInt numerator, BrobInt denominator ) {
+      if ( denominator.equals( BrobInt.ZERO ) ){
+         throw new ArithmeticException( "\n         Sorry, the denominator can't be zero." );
+      }
+      boolean flip     = denominator.getSign() == 1;
+      this.numerator   = flip ? numerator.negate()   : numerator;
+      this.denominator = flip ? denominator.negate() : denominator;
+      this.reduced     = this.denominator.equals( BrobInt.ONE );
+      this.limit       = 0;
+   }
+
+  /**
+   *  Constructor used by the parsing constructor, which can't split the string before calling this()
+   *  @param  terms  the numerator and the denominator
+   */
+   private BrobRational( BrobInt[] terms ) {
+      this( terms[0], terms[1] );
+   }
+
+  /**
+   *  Constructor used internally for terms that are already signed correctly
+   *  @param  numerator    the numerator
+   *  @param  denominator  the denominator; positive
+   *  @param  reduced      true if the terms are known to be in lowest terms
+   *  @param  limit        digits the terms may reach before they are reduced again
+   */
+   private BrobRational( BrobInt numerator, BrobInt denominator, boolean reduced, int limit ) {
+      this.numerator   = numerator;
+      this.denominator = denominator;
+      this.reduced     = reduced;
+      this.limit       = limit;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to split the text of a fraction into its two terms
+   *  @param  value      the text
+   *  @return BrobInt[]  holding the numerator and the denominator, which is one for a whole number
+   *  @throws IllegalArgumentException if either term is not a BrobInt
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobInt[] termsOf( String value ) {
+      if ( value == null ){
+         throw new IllegalArgumentException();
+      }
+      int slash = value.indexOf( '/' );
+      if ( slash < 0 ){
+         return new BrobInt[] { new BrobInt( value ), BrobInt.ONE };
+      }
+      return new BrobInt[] { new BrobInt( value.substring( 0, slash ) ), new BrobInt( value.substring( slash + 1 ) ) };
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to make a BrobRational from a whole number
+   *  @param  value         the whole number
+   *  @return BrobRational  that is value over one
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static BrobRational valueOf( BrobInt value ) {
+      return new BrobRational( value, BrobInt.ONE, true, 0 );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the numerator of this BrobRational as it stands
+   *  @return BrobInt  the numerator, which carries the sign; not necessarily in lowest terms
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt getNumerator() {
+      return numerator;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the denominator of this BrobRational as it stands
+   *  @return BrobInt  the denominator, which is always positive; not necessarily in lowest terms
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobInt getDenominator() {
+      return denominator;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return the sign (+/-) of this BrobRational
+   *  @return int  "0" for positive or zero, "1" for negative, as BrobInt.getSign() does
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int getSign() {
+      return numerator.getSign();
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to bring this BrobRational to lowest terms
+   *  @return BrobRational  with the same value, whose numerator and denominator have no common factor;
+   *                        zero comes out as 0/1
+   *  NOTE: one BrobInt gcd() and two exact divisions, skipped if the terms are already known to be
+   *        reduced
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobRational normalize() {
+      if ( reduced ){
+         return this;
+      }
+      BrobInt gcd = numerator.gcd( denominator );
+      BrobInt n   = numerator;
+      BrobInt d   = denominator;
+      if ( !gcd.equals( BrobInt.ONE ) ){
+         n = n.divide( gcd );
+         d = d.divide( gcd );
+      }
+      return new BrobRational( n, d, true, Math.max( normalizeDigits, 2 * (n.digitCount() + d.digitCount()) ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to wrap the result of an operation, reducing it only if its terms have grown past the
+   *   larger of the two operands' limits
+   *  @param  n        the numerator
+   *  @param  d        the denominator; positive
+   *  @param  x        the first operand
+   *  @param  y        the second operand
+   *  @return BrobRational  holding the result
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   private static BrobRational result( BrobInt n, BrobInt d, BrobRational x, BrobRational y ) {
+      int limit = Math.max( normalizeDigits, Math.max( x.limit, y.limit ) );
+      BrobRational r = new BrobRational( n, d, d.equals( BrobInt.ONE ), limit );
+      if ( n.digitCount() + d.digitCount() > limit ){
+         return r.normalize();
+      }
+      return r;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to negate this BrobRational
+   *  @return BrobRational  with the opposite sign
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobRational negate() {
+      return new BrobRational( numerator.negate(), denominator, reduced, limit );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to add a BrobRational passed as argument to this BrobRational
+   *  @param  other  BrobRational to add to this
+   *  @return BrobRational  that is the sum
+   *  NOTE: over the same denominator only the numerators are added; otherwise it is a/b + c/d =
+   *        (ad + cb) / bd, with no gcd unless the result passes the size limit
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobRational add( BrobRational other ) {
+      if ( denominator.equals( other.denominator ) ){
+         return result( numerator.addInt( other.numerator ), denominator, this, other );
+      }
+      return result( numerator.multiply( other.denominator ).addInt( other.numerator.multiply( denominator ) ),
+                     denominator.multiply( other.denominator ), this, other );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to subtract a BrobRational passed as argument from this BrobRational
+   *  @param  other  BrobRational to subtract from this
+   *  @return BrobRational  that is the difference
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobRational subtract( BrobRational other ) {
+      return add( other.negate() );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to multiply this BrobRational by a BrobRational passed as argument
+   *  @param  other  BrobRational to multiply by this
+   *  @return BrobRational  that is the product, a/b * c/d = ac / bd
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobRational multiply( BrobRational other ) {
+      return result( numerator.multiply( other.numerator ), denominator.multiply( other.denominator ), this, other );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to divide this BrobRational by a BrobRational passed as argument
+   *  @param  other  BrobRational to divide this by
+   *  @return BrobRational  that is the quotient, a/b / c/d = ad / bc
+   *  @throws ArithmeticException if the divisor is zero
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobRational divide( BrobRational other ) {
+      if ( other.numerator.equals( BrobInt.ZERO ) ){
+         throw new ArithmeticException( "\n         Sorry, you can't divide by zero." );
+      }
+      BrobInt n = numerator.multiply( other.denominator );
+      BrobInt d = denominator.multiply( other.numerator );
+      if ( d.getSign() == 1 ){
+         n = n.negate();
+         d = d.negate();
+      }
+      return result( n, d, this, other );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to give the value of this BrobRational as a decimal
+   *  @param  scale  digits wanted after the decimal point
+   *  @param  mode   how to round the digits past them
+   *  @return BrobDecimal  that is numerator / denominator rounded to that scale
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public BrobDecimal toBrobDecimal( int scale, RoundingMode mode ) {
+      return BrobDecimal.valueOf( numerator ).divide( BrobDecimal.valueOf( denominator ), scale, mode );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to compare a BrobRational passed as argument to this BrobRational by numeric value
+   *  @param  other  BrobRational to compare to this
+   *  @return int   that is -1/0/1 if this BrobRational is less than/equal to/greater than the argument
+   *  NOTE: the denominators are both positive, so a/b against c/d is ad against cb; neither side is
+   *        reduced first, and different signs settle it without multiplying
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int compareTo( BrobRational other ) {
+      if ( getSign() != other.getSign() ){
+         return (getSign() == 1) ? -1 : 1;
+      }
+      if ( denominator.equals( other.denominator ) ){
+         return numerator.compareTo( other.numerator );
+      }
+      return numerator.multiply( other.denominator ).compareTo( other.numerator.multiply( denominator ) );
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to check if a BrobRational passed as argument is equal to this BrobRational
+   *  @param  other     object to compare to this
+   *  @return boolean   that is true if it is a BrobRational of the same value, in whatever terms
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public boolean equals( Object other ) {
+      if ( this == other ){
+         return true;
+      }
+      if ( !(other instanceof BrobRational) ){
+         return false;
+      }
+      return compareTo( (BrobRational)other ) == 0;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return a hash code that agrees with equals()
+   *  @return int  the hash of the terms in lowest terms, so every way of writing the same value
+   *               hashes alike; worked out once and kept
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public int hashCode() {
+      int h = hash;
+      if ( h == 0 ){
+         BrobRational lowest = normalize();
+         h = (31 * lowest.numerator.hashCode()) + lowest.denominator.hashCode();
+         hash = h;
+      }
+      return h;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to set the size at which fractions are brought to lowest terms on their own
+   *  @param  digits  digits the numerator and denominator may have between them; at least one
+   *  @throws IllegalArgumentException if the size is less than one
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static void setNormalizeThreshold( int digits ) {
+      if ( digits < 1 ){
+         throw new IllegalArgumentException( "\n         Sorry, the normalize threshold must be positive." );
+      }
+      normalizeDigits = digits;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to get the size at which fractions are brought to lowest terms on their own
+   *  @return int  digits the numerator and denominator may have between them
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public static int getNormalizeThreshold() {
+      return normalizeDigits;
+   }
+
+  /** ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+   *  Method to return a String representation of this BrobRational
+   *  @return String  of the fraction in lowest terms, as "numerator/denominator", or just the
+   *                  numerator if the denominator is one
+   *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+   public String toString() {
+      BrobRational lowest = normalize();
+      if ( lowest.denominator.equals( BrobInt.ONE ) ){
+         return lowest.numerator.toString();
+      }
+      return lowest.numerator + "/" + lowest.denominator;
+   }
+}
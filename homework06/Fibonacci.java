@@ -16,11 +16,23 @@
  *
  *  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
 public class Fibonacci {
 
    private static final String usageMessage = "\n  You must enter an integer number....." +
                                               "\n    Please try again!" +
-                                              "\n  USAGE: java Fibonacci <required_integer>\n\n";
+                                              "\n  USAGE: java Fibonacci <required_integer> [working_count] [--linear | --compare] [--out <file>]" +
+                                              "\n    --linear      walk the sequence one addition at a time (the reference mode)" +
+                                              "\n    --compare     run both modes and report the speedup" +
+                                              "\n    --out <file>  write the number to a file instead of the console\n\n";
    private static long    maxCount    = 0;
    private static int    working     = 15000;
    private static String end1        = "st";
@@ -28,20 +40,129 @@ public class Fibonacci {
    private static String end3        = "rd";
    private static String endRest     = "th";
    private static String cardinality = "";
-   private static BrobInt n1 = new BrobInt("0");
-   private static BrobInt n2 = new BrobInt("1");
    private static BrobInt n3 = new BrobInt("1");
    private static long startTime, endTime, duration, remainder, seconds, minutes;
+   private static boolean linear      = false;
+   private static boolean compare     = false;
+   private static String  outFile     = null;
 
    private static final  int NO_CMD_LINE_ARGS = -1;
    private static final  int BAD_CMD_LINE_ARG = -2;
+   private static final  int BAD_OUTPUT_FILE  = -3;
+   private static final  int OUT_BUFFER_SIZE  = 1 << 16;
 
    public Fibonacci() {
       super();
    }
 
+  /**
+   *  Method to find the nth Fibonacci number by fast doubling, using the identities
+   *     F(2k) = F(k) * (2F(k+1) - F(k))   and   F(2k+1) = F(k)^2 + F(k+1)^2
+   *   on the bits of n from the top down, so it takes O(log n) big multiplications
+   *  @param  n  index of the number to find, starting from F(0) = 0
+   *  @return BrobInt  the nth Fibonacci number
+   *  @throws IllegalArgumentException if n is negative
+   */
+   public static BrobInt compute( long n ) {
+      if ( n < 0 ) {
+         throw new IllegalArgumentException( "\n         Sorry, the index must not be negative." );
+      }
+      BrobInt a = BrobInt.ZERO;      // F(k)
+      BrobInt b = BrobInt.ONE;       // F(k+1)
+      for ( int bit = 63 - Long.numberOfLeadingZeros( n ); bit >= 0; bit-- ) {
+         BrobInt c = a.multiply( b.addInt( b ).subtractInt( a ) );
+         BrobInt d = a.multiply( a ).addInt( b.multiply( b ) );
+         if ( ((n >>> bit) & 1) == 1 ) {
+            a = d;
+            b = c.addInt( d );
+         } else {
+            a = c;
+            b = d;
+         }
+      }
+      return a;
+   }
+
+  /**
+   *  Method to find the nth Fibonacci number by walking the sequence one addition at a time; this is
+   *   the original reference mode, kept for checking and timing the fast one against.  The two
+   *   running values live in BrobIntBuilders, so the loop reuses two buffers instead of making a new
+   *   BrobInt for every step
+   *  @param  n  index of the number to find, starting from F(0) = 0
+   *  @return BrobInt  the nth Fibonacci number
+   *  @throws IllegalArgumentException if n is negative
+   */
+   public static BrobInt computeLinear( long n ) {
+      if ( n < 0 ) {
+         throw new IllegalArgumentException( "\n         Sorry, the index must not be negative." );
+      }
+      if ( n == 0 ) {
+         return BrobInt.ZERO;
+      }
+      BrobIntBuilder n1 = new BrobIntBuilder( BrobInt.ZERO );
+      BrobIntBuilder n2 = new BrobIntBuilder( BrobInt.ONE );
+      for ( long i = 2; i < n + 1; i++ ) {
+         n1.addInPlace( n2 );
+         BrobIntBuilder n3 = n1;
+         n1 = n2;
+         n2 = n3;
+      }
+      return n2.toBrobInt();
+   }
+
+  /**
+   *  Method to stream a number's digits into a file through a buffered channel, so the decimal string
+   *   is never held in memory all at once; a spilled number is written straight from its mapping
+   *  @param  fileName  the file to create or overwrite
+   *  @param  value     the number to write
+   *  @return long  the number of characters written
+   *  @throws IOException if the file can't be written
+   */
+   public static long writeNumber( String fileName, BrobIntStore value ) throws IOException {
+      try ( FileChannel channel = FileChannel.open( Paths.get( fileName ), StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE ) ){
+         OutputStream out = new BufferedOutputStream( Channels.newOutputStream( channel ), OUT_BUFFER_SIZE );
+         value.writeTo( out );
+         out.flush();
+         return channel.size();
+      }
+   }
+
+  /**
+   *  Method to print how long a run took, in the same style for either mode
+   *  @param  nanos  elapsed time in nanoseconds
+   *  @param  mode   name of the mode that was timed
+   */
+   private static void printDuration( long nanos, String mode ) {
+      duration = nanos / 1000000; //sets duration to total program run time in miliseconds
+      remainder = duration % 1000; //set remainder to miliseconds left after turning converting duration to seconds
+      seconds = (duration - remainder) / 1000; //set seconds to the total run seconds without remainder
+      minutes = (seconds - (seconds % 60)) / 60; //sets duration to the total run minutes without remainder
+
+      if (seconds < 1) { //checks if duration is less than a second
+         System.out.println("\fFound the " + maxCount + cardinality + " fibonacci number in ." + duration + " seconds using " + mode ); //prints time the  program took to run
+      } else if ( seconds >= 1 && minutes < 1){ //if duration is greater than a second
+         System.out.println("\fFound the " + maxCount + cardinality + " fibonacci number in " + seconds + "." + remainder + " seconds using " + mode ); //prints time the program took to run
+      } else {
+         System.out.println("\fFound the " + maxCount + cardinality + " fibonacci number in " + minutes + " minutes and " + (seconds - (minutes * 60)) + "." + remainder + " seconds using " + mode ); //prints time the program took to run
+      }
+   }
+
    public static void main( String[] args ) {
       System.out.println( "\n\n   Welcome to the Fibonacci sequence number finder!\n" );
+      int positional = 0;
+      for( int i = 0; i < args.length; i++ ) {
+         if( args[i].equals( "--linear" ) ) {
+            linear = true;
+         } else if( args[i].equals( "--compare" ) ) {
+            compare = true;
+         } else if( args[i].equals( "--out" ) && i + 1 < args.length ) {
+            outFile = args[++i];
+         } else {
+            args[positional++] = args[i];
+         }
+      }
+      args = Arrays.copyOf( args, positional );
       if( 0 == args.length ) {
          System.out.println( usageMessage );
          System.exit( NO_CMD_LINE_ARGS );
@@ -86,41 +207,61 @@ public class Fibonacci {
       }
 
       startTime = System.nanoTime();
-      if ( maxCount == 0 ){
-         n3 = n1;
-      } else if ( maxCount == 1 ){
-         n3 = n2;
+      if ( linear ){
+         n3 = computeLinear( maxCount );
       } else {
-         for ( int i = 2; i < maxCount + 1; i++ ){
-            //System.out.println("current index is = " + i);
-            n3 = n1.addByte(n2);
-            n1 = n2;
-            n2 = n3;
-         }
+         n3 = compute( maxCount );
       }
       endTime = System.nanoTime(); //sets endTime to the time after the program runs
-      duration = (endTime - startTime) / 1000000; //sets duration to total program run time in miliseconds
-      remainder = duration % 1000; //set remainder to miliseconds left after turning converting duration to seconds
-      seconds = (duration - remainder) / 1000; //set seconds to the total run seconds without remainder
-      minutes = (seconds - (seconds % 60)) / 60; //sets duration to the total run minutes without remainder
 
-      System.out.println( "\n\n   Starting from zero, the " + maxCount + cardinality + " Fibonacci number is: " + n3 );
+     // a result past BrobIntStore's spill threshold moves to a mapped file here, and the heap copy is
+     //  dropped, so it takes no heap while it is written out or while --compare runs the other mode
+      BrobIntStore result = null;
+      long digits = 0;
+      try {
+         result = BrobIntStore.of( n3 );
+         if ( result.isOffHeap() ){
+            n3 = null;
+         }
+         if ( outFile == null ){
+            System.out.print( "\n\n   Starting from zero, the " + maxCount + cardinality + " Fibonacci number is: " );
+            result.writeTo( System.out );
+            System.out.println();
+            digits = result.digitCount();
+         } else {
+            digits = writeNumber( outFile, result );
+            System.out.println( "\n\n   Starting from zero, the " + maxCount + cardinality + " Fibonacci number was written to " + outFile );
+         }
+      }
+      catch( IOException ioe ) {
+         System.out.println( "\n   Sorry, couldn't write the number out: " + ioe.getMessage() + "\n" );
+         System.exit( BAD_OUTPUT_FILE );
+      }
 
-      if (seconds < 1) { //checks if duration is less than a second
-         System.out.println("\fFound the " + maxCount + cardinality + " fibonacci number in ." + duration + " seconds" ); //prints time the  program took to run
-      } else if ( seconds >= 1 && minutes < 1){ //if duration is greater than a second
-         System.out.println("\fFound the " + maxCount + cardinality + " fibonacci number in " + seconds + "." + remainder + " seconds" ); //prints time the program took to run
-      } else {
-         System.out.println("\fFound the " + minutes + cardinality + " fibonacci number in " + minutes + " minutes and " + (seconds - (minutes * 60)) + "." + remainder + " seconds" ); //prints time the program took to run
+      printDuration( endTime - startTime, linear ? "the linear loop" : "fast doubling" );
+
+      if ( compare ){
+         long firstTime = endTime - startTime;
+         startTime = System.nanoTime();
+         BrobInt check = linear ? compute( maxCount ) : computeLinear( maxCount );
+         endTime = System.nanoTime();
+         long secondTime = endTime - startTime;
+         printDuration( secondTime, linear ? "fast doubling" : "the linear loop" );
+         long fastTime   = linear ? secondTime : firstTime;
+         long linearTime = linear ? firstTime : secondTime;
+         System.out.println( "\n     Fast doubling was " + String.format( "%.1f", (double)linearTime / Math.max( 1L, fastTime ) ) +
+                             " times faster; the two results " + (check.equals( result.load() ) ? "match" : "DO NOT match") );
       }
 
       //System.out.println( "\n\n   Starting from zero, the " + maxCount + cardinality + " Fibonacci number is: " + n3 );
 
-      if ( n3.getInternalValue().length() > 4 ){
-         System.out.println("\n     This number is " + (n3.getInternalValue().length() - 1) + " digits long\f" );
+      if ( digits > 4 ){
+         System.out.println("\n     This number is " + digits + " digits long\f" );
       }
       //System.out.println( "\n\n\n  ...HA!! Like I'm going to do the ENTIRE thing for you.....  *grins*" );
 
+      result.close();
+
 
       System.exit( 0 );
    }
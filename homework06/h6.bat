@@ -7,8 +7,13 @@
 @echo "creating javadocs....."
 @rmdir /Q /S docs
 @mkdir docs
+@copy BrobDecimal.java docs\.
 @copy BrobInt.java docs\.
+@copy BrobIntBuilder.java docs\.
+@copy BrobIntDifferentialTester.java docs\.
+@copy BrobIntStore.java docs\.
 @copy BrobIntTester.java docs\.
+@copy BrobRational.java docs\.
 @copy Doofus.java docs\.
 @copy Fibonacci.java docs\.
 @copy Halver.java docs\.
@@ -19,6 +24,7 @@
 
 @echo "running test harnesses for evaluation....."
 @java BrobIntTester >> testresults.txt
+@java BrobIntDifferentialTester >> testresults.txt || @echo "differential tests FAILED, see testresults.txt....."
 @java Fibonacci    23 >> testresults.txt
 @java Fibonacci   100 >> testresults.txt
 @java Fibonacci   250 >> testresults.txt